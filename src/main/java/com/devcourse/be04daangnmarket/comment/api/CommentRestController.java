@@ -3,6 +3,7 @@ package com.devcourse.be04daangnmarket.comment.api;
 import com.devcourse.be04daangnmarket.comment.application.CommentService;
 import com.devcourse.be04daangnmarket.comment.dto.CommentDto;
 import com.devcourse.be04daangnmarket.common.auth.User;
+import com.devcourse.be04daangnmarket.common.http.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "comment", description = "댓글 API")
 @RestController
@@ -84,7 +86,11 @@ public class CommentRestController {
             @ApiResponse(responseCode = "404", description = "댓글이 존재하지 않습니다.")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<CommentDto.CommentResponse> getDetail(@PathVariable Long id) {
+    public ResponseEntity<CommentDto.CommentResponse> getDetail(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, id, commentService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         CommentDto.CommentResponse response = commentService.getDetail(id);
         return ResponseEntity.ok(response);
     }
@@ -11,5 +11,7 @@ public interface CommentProviderService {
 
     Page<CommentDto.PostCommentResponse> getPostComments(Long postId, Pageable pageable);
 
+    CommentDto.CursorResponse getPostCommentsWithCursor(Long postId, String cursor, Pageable pageable);
+
     Page<ProfileDto.Response> getCommenterByPostId(Long postId, Long writerId, Pageable pageable);
 }
@@ -1,6 +1,8 @@
 package com.devcourse.be04daangnmarket.comment.application;
 
 import com.devcourse.be04daangnmarket.comment.dto.CommentDto;
+import com.devcourse.be04daangnmarket.common.cursor.CursorCodec;
+import com.devcourse.be04daangnmarket.common.cursor.KeysetQuery;
 import com.devcourse.be04daangnmarket.common.image.ImageIOService;
 import com.devcourse.be04daangnmarket.image.application.ImageService;
 import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
@@ -18,11 +20,15 @@ import com.devcourse.be04daangnmarket.post.application.PostService;
 import com.devcourse.be04daangnmarket.post.domain.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -40,6 +46,7 @@ public class CommentService implements CommentProviderService {
     private final PostService postService;
     private final MemberService memberService;
     private final ProfileService profileService;
+    private final CursorCodec cursorCodec;
 
 
     public CommentService(ImageIOService imageIOService,
@@ -47,13 +54,15 @@ public class CommentService implements CommentProviderService {
                           CommentRepository commentRepository,
                           PostService postService,
                           MemberService memberService,
-                          ProfileService profileService) {
+                          ProfileService profileService,
+                          CursorCodec cursorCodec) {
         this.imageIOService = imageIOService;
         this.imageService = imageService;
         this.commentRepository = commentRepository;
         this.postService = postService;
         this.memberService = memberService;
         this.profileService = profileService;
+        this.cursorCodec = cursorCodec;
     }
 
     @Transactional
@@ -125,7 +134,11 @@ public class CommentService implements CommentProviderService {
         deleteComment(comment);
     }
 
-    @Override
+    public LocalDateTime getLastModified(Long id) {
+        return commentRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_COMMENT.getMessage()));
+    }
+
     public Comment getComment(Long id) {
         return commentRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_COMMENT.getMessage()));
@@ -150,19 +163,37 @@ public class CommentService implements CommentProviderService {
         List<Comment> postComments = commentRepository.findAllByPostIdToSeqIsZero(postId);
 
         List<CommentDto.PostCommentResponse> postCommentResponses = postComments.stream()
-                .map(comment -> {
-                    String commentUsername = profileService.getOne(comment.getMemberId()).getUsername();
-                    String postTitle = postService.findPostById(comment.getPostId()).getTitle();
-                    List<String> imagePaths = imageService.getImages(DomainName.COMMENT, comment.getId());
-                    List<CommentDto.CommentResponse> replyCommentResponses = getReplyComments(comment);
-
-                    return toResponse(comment, commentUsername, postTitle, imagePaths, replyCommentResponses);
-                })
+                .map(this::toPostCommentResponse)
                 .toList();
 
         return new PageImpl<>(postCommentResponses, pageable, postCommentResponses.size());
     }
 
+    @Override
+    public CommentDto.CursorResponse getPostCommentsWithCursor(Long postId, String cursor, Pageable pageable) {
+        Sort sort = KeysetQuery.withTieBreaker(pageable.getSort(), CommentRepository.SORTABLE_PROPERTIES);
+        Pageable cursorPageable = PageRequest.of(0, pageable.getPageSize(), sort);
+
+        Slice<Comment> postComments = commentRepository.findGroupCommentsWithCursor(
+                postId,
+                cursorCodec.decode(sort, cursor),
+                cursorPageable);
+
+        return new CommentDto.CursorResponse(
+                postComments.map(this::toPostCommentResponse),
+                cursorCodec.nextCursor(postComments, sort)
+        );
+    }
+
+    private CommentDto.PostCommentResponse toPostCommentResponse(Comment comment) {
+        String commentUsername = profileService.getOne(comment.getMemberId()).getUsername();
+        String postTitle = postService.findPostById(comment.getPostId()).getTitle();
+        List<String> imagePaths = imageService.getImages(DomainName.COMMENT, comment.getId());
+        List<CommentDto.CommentResponse> replyCommentResponses = getReplyComments(comment);
+
+        return toResponse(comment, commentUsername, postTitle, imagePaths, replyCommentResponses);
+    }
+
     private List<CommentDto.CommentResponse> getReplyComments(Comment comment) {
         List<Comment> replyComments = commentRepository.findRepliesByCommentGroup(comment.getCommentGroup());
       
@@ -190,6 +221,7 @@ public class CommentService implements CommentProviderService {
 
         imageService.deleteAllImages(DomainName.COMMENT, id);
         List<String> imagePaths = imageService.save(imageDetails, DomainName.COMMENT, id);
+        comment.touch();
 
         return toResponse(comment, imagePaths, username);
     }
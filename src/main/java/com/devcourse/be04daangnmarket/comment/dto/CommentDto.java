@@ -3,6 +3,7 @@ package com.devcourse.be04daangnmarket.comment.dto;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.apache.logging.log4j.core.config.plugins.validation.constraints.NotBlank;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -91,4 +92,11 @@ public class CommentDto {
             LocalDateTime updatedAt
     ) {
     }
+
+    public record CursorResponse(
+            Slice<PostCommentResponse> comments,
+
+            String nextCursor
+    ) {
+    }
 }
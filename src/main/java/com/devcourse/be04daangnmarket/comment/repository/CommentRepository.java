@@ -8,10 +8,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentWithCursorRepository {
     @Query("SELECT max(c.commentGroup) FROM Comment c")
     Optional<Integer> findMaxCommentGroup();
 
@@ -20,6 +21,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findAllByCommentGroup(int commentGroup);
 
+    @Query("SELECT greatest(c.updatedAt, pr.updatedAt) FROM Comment c JOIN Profile pr ON pr.memberId = c.member.id WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
     @Query("SELECT c FROM Comment c JOIN fetch c.member WHERE c.post.id=:postId AND c.seq=0")
     List<Comment> findAllByPostIdToSeqIsZero(@Param("postId") Long postId);
 
@@ -0,0 +1,14 @@
+package com.devcourse.be04daangnmarket.comment.repository;
+
+import com.devcourse.be04daangnmarket.comment.domain.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Set;
+
+public interface CommentWithCursorRepository {
+    Set<String> SORTABLE_PROPERTIES = Set.of("createdAt");
+
+    Slice<Comment> findGroupCommentsWithCursor(Long postId, List<String> cursorValues, Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.devcourse.be04daangnmarket.comment.repository;
+
+import com.devcourse.be04daangnmarket.comment.domain.Comment;
+import com.devcourse.be04daangnmarket.common.cursor.KeysetQuery;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class CommentWithCursorRepositoryImpl implements CommentWithCursorRepository {
+    private final EntityManager em;
+
+    public CommentWithCursorRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public Slice<Comment> findGroupCommentsWithCursor(Long postId, List<String> cursorValues, Pageable pageable) {
+        Specification<Comment> groupComments = (root, query, builder) -> builder.and(
+                builder.equal(root.get("post").get("id"), postId),
+                builder.equal(root.get("seq"), 0)
+        );
+
+        return KeysetQuery.findAll(em, Comment.class, groupComments, cursorValues, pageable, SORTABLE_PROPERTIES);
+    }
+}
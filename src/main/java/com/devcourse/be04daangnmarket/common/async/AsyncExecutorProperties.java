@@ -0,0 +1,53 @@
+package com.devcourse.be04daangnmarket.common.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "custom.async")
+public class AsyncExecutorProperties {
+    private Map<String, Pool> executors = new HashMap<>();
+
+    public Map<String, Pool> getExecutors() {
+        return executors;
+    }
+
+    public void setExecutors(Map<String, Pool> executors) {
+        this.executors = executors;
+    }
+
+    public Pool getPool(String name) {
+        return executors.getOrDefault(name, new Pool());
+    }
+
+    public static class Pool {
+        private int coreSize = 2;
+        private int maxSize = 4;
+        private int queueCapacity = 200;
+
+        public int getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(int coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
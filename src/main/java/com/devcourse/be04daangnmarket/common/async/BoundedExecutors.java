@@ -0,0 +1,62 @@
+package com.devcourse.be04daangnmarket.common.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+
+public class BoundedExecutors {
+    public static ThreadPoolTaskExecutor create(String name,
+                                                AsyncExecutorProperties.Pool pool,
+                                                RejectionPolicy rejectionPolicy,
+                                                MeterRegistry meterRegistry) {
+        Counter rejections = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .tag("policy", rejectionPolicy.name())
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected ExecutorService initializeExecutor(ThreadFactory threadFactory,
+                                                         RejectedExecutionHandler rejectedExecutionHandler) {
+                ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+                new ExecutorServiceMetrics(getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+
+                return executorService;
+            }
+        };
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectedExecutionHandler(rejectionPolicy.handler(rejections));
+        executor.setTaskDecorator(new MeteredTaskDecorator(meterRegistry, name));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+
+        return executor;
+    }
+
+    public static PartitionedExecutor createPartitioned(String name,
+                                                        AsyncExecutorProperties.Pool pool,
+                                                        MeterRegistry meterRegistry) {
+        AsyncExecutorProperties.Pool partitionPool = new AsyncExecutorProperties.Pool();
+        partitionPool.setCoreSize(1);
+        partitionPool.setMaxSize(1);
+        partitionPool.setQueueCapacity(pool.getQueueCapacity());
+
+        List<ThreadPoolTaskExecutor> partitions = new ArrayList<>();
+
+        for (int i = 0; i < pool.getCoreSize(); i++) {
+            partitions.add(create(name + "-" + i, partitionPool, RejectionPolicy.BLOCK, meterRegistry));
+        }
+
+        return new PartitionedExecutor(partitions);
+    }
+}
@@ -0,0 +1,31 @@
+package com.devcourse.be04daangnmarket.common.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+public class MeteredTaskDecorator implements TaskDecorator {
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+
+    public MeteredTaskDecorator(MeterRegistry meterRegistry, String name) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("executor.idle")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("executor")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Timer.Sample queued = Timer.start(meterRegistry);
+
+        return () -> {
+            queued.stop(waitTimer);
+            executionTimer.record(runnable);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.devcourse.be04daangnmarket.common.async;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PartitionedExecutor implements Executor, InitializingBean, DisposableBean {
+    private final List<ThreadPoolTaskExecutor> partitions;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public PartitionedExecutor(List<ThreadPoolTaskExecutor> partitions) {
+        this.partitions = List.copyOf(partitions);
+    }
+
+    public void execute(Object key, Runnable task) {
+        partitions.get(Math.floorMod(key.hashCode(), partitions.size())).execute(task);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        partitions.get(Math.floorMod(next.getAndIncrement(), partitions.size())).execute(task);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        partitions.forEach(ThreadPoolTaskExecutor::initialize);
+    }
+
+    @Override
+    public void destroy() {
+        partitions.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+}
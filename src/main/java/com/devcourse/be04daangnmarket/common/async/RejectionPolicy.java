@@ -0,0 +1,34 @@
+package com.devcourse.be04daangnmarket.common.async;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.RejectedExecutionHandler;
+
+public enum RejectionPolicy {
+    CALLER_RUNS,
+    DISCARD,
+    BLOCK
+    ;
+
+    public RejectedExecutionHandler handler(Counter rejections) {
+        return (task, executor) -> {
+            rejections.increment();
+
+            if (executor.isShutdown()) {
+                return;
+            }
+
+            if (this == CALLER_RUNS) {
+                task.run();
+            }
+
+            if (this == BLOCK) {
+                try {
+                    executor.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.devcourse.be04daangnmarket.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ByteArrayLruCache {
+    private final long maxBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long evictionCount;
+
+    public ByteArrayLruCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, byte[] value) {
+        if (value.length > maxBytes) {
+            return;
+        }
+
+        byte[] previous = entries.put(key, value);
+
+        if (previous != null) {
+            totalBytes -= previous.length;
+        }
+
+        totalBytes += value.length;
+
+        Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().length;
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    public synchronized void remove(String key) {
+        byte[] removed = entries.remove(key);
+
+        if (removed != null) {
+            totalBytes -= removed.length;
+        }
+    }
+
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+}
@@ -0,0 +1,166 @@
+package com.devcourse.be04daangnmarket.common.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class DiskLruCache {
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Duration DEFAULT_DELETE_DELAY = Duration.ofSeconds(30);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long deleteDelayMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> evicted = new LinkedHashMap<>();
+    private long totalBytes;
+    private long evictionCount;
+
+    public DiskLruCache(Path directory, long maxBytes) {
+        this(directory, maxBytes, DEFAULT_DELETE_DELAY, Clock.systemUTC());
+    }
+
+    public DiskLruCache(Path directory, long maxBytes, Duration deleteDelay, Clock clock) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.deleteDelayMillis = deleteDelay.toMillis();
+        this.clock = clock;
+
+        try {
+            Files.createDirectories(directory);
+            restore();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void restore() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Files::isRegularFile)
+                    .map(this::readAttributes)
+                    .sorted(Comparator.comparing(entry -> entry.getValue().lastAccessTime()))
+                    .forEach(entry -> {
+                        String key = entry.getKey().getFileName().toString();
+
+                        if (key.endsWith(TEMP_SUFFIX)) {
+                            deleteQuietly(entry.getKey());
+                            return;
+                        }
+
+                        entries.put(key, entry.getValue().size());
+                        totalBytes += entry.getValue().size();
+                    });
+        }
+
+        evictOverflow();
+        purgeEvicted(Long.MAX_VALUE);
+    }
+
+    private Map.Entry<Path, BasicFileAttributes> readAttributes(Path file) {
+        try {
+            return Map.entry(file, Files.readAttributes(file, BasicFileAttributes.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized Path get(String key) {
+        if (entries.get(key) == null) {
+            return null;
+        }
+
+        return directory.resolve(key);
+    }
+
+    public Path put(String key, ContentWriter writer) throws IOException {
+        Path target = directory.resolve(key);
+        Path temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                writer.write(outputStream);
+            }
+
+            long size = Files.size(temp);
+            cancelDelete(key);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            record(key, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        return target;
+    }
+
+    private synchronized void record(String key, long size) {
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+        evicted.remove(key);
+
+        evictOverflow();
+        purgeEvicted(clock.millis() - deleteDelayMillis);
+    }
+
+    private synchronized void cancelDelete(String key) {
+        evicted.remove(key);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+
+        while (totalBytes > maxBytes && entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            evictionCount++;
+            evicted.put(eldest.getKey(), clock.millis());
+        }
+    }
+
+    private void purgeEvicted(long evictedBefore) {
+        Iterator<Map.Entry<String, Long>> iterator = evicted.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+
+            if (entry.getValue() > evictedBefore) {
+                return;
+            }
+
+            iterator.remove();
+            deleteQuietly(directory.resolve(entry.getKey()));
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+}
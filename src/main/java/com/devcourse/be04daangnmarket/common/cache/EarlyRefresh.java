@@ -0,0 +1,11 @@
+package com.devcourse.be04daangnmarket.common.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class EarlyRefresh {
+    public static boolean shouldRefresh(long now, long expiresAt, long computeMillis, double beta) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+
+        return now - computeMillis * beta * Math.log(random) >= expiresAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.devcourse.be04daangnmarket.common.config;
+
+import com.devcourse.be04daangnmarket.common.async.AsyncExecutorProperties;
+import com.devcourse.be04daangnmarket.common.async.BoundedExecutors;
+import com.devcourse.be04daangnmarket.common.async.PartitionedExecutor;
+import com.devcourse.be04daangnmarket.common.async.RejectionPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableAsync
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+public class AsyncConfig implements AsyncConfigurer {
+    public static final String IMAGE_VARIANT_EXECUTOR = "imageVariantExecutor";
+    public static final String DOMAIN_EVENT_EXECUTOR = "domainEventExecutor";
+
+    private final AsyncExecutorProperties asyncExecutorProperties;
+    private final MeterRegistry meterRegistry;
+
+    public AsyncConfig(AsyncExecutorProperties asyncExecutorProperties, MeterRegistry meterRegistry) {
+        this.asyncExecutorProperties = asyncExecutorProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(IMAGE_VARIANT_EXECUTOR)
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        return create("image-variant", RejectionPolicy.DISCARD);
+    }
+
+    @Bean(DOMAIN_EVENT_EXECUTOR)
+    public PartitionedExecutor domainEventExecutor() {
+        String name = "domain-event";
+
+        return BoundedExecutors.createPartitioned(name, asyncExecutorProperties.getPool(name), meterRegistry);
+    }
+
+    private ThreadPoolTaskExecutor create(String name, RejectionPolicy rejectionPolicy) {
+        return BoundedExecutors.create(name, asyncExecutorProperties.getPool(name), rejectionPolicy, meterRegistry);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return domainEventExecutor();
+    }
+}
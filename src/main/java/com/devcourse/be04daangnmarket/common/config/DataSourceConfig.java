@@ -1,25 +1,73 @@
 package com.devcourse.be04daangnmarket.common.config;
 
+import com.devcourse.be04daangnmarket.common.datasource.RecentWriteTracker;
+import com.devcourse.be04daangnmarket.common.datasource.ReplicaProperties;
+import com.devcourse.be04daangnmarket.common.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
 
 @Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
 public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicationRoutingDataSource.PRIMARY);
+
+        return dataSource;
+    }
+
+    @Bean
+    public RecentWriteTracker recentWriteTracker(ReplicaProperties replicaProperties) {
+        return new RecentWriteTracker(replicaProperties.getReadYourWritesWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                          ReplicaProperties replicaProperties,
+                                                          RecentWriteTracker recentWriteTracker,
+                                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        List<Properties> replicaConfigs = replicaProperties.toHikariProperties();
+        List<HikariDataSource> replicas = new ArrayList<>();
+
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            HikariConfig config = new HikariConfig(replicaConfigs.get(i));
+            config.setPoolName(ReplicationRoutingDataSource.REPLICA_PREFIX + i);
+            config.setReadOnly(true);
+
+            if (registry != null) {
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+
+            replicas.add(new HikariDataSource(config));
+        }
+
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas, recentWriteTracker, registry);
+    }
+
     @Bean
     @Primary
-    public DataSource lazyDataSource(DataSourceProperties properties) {
-        HikariDataSource dataSource = new HikariDataSource();
-        dataSource.setJdbcUrl(properties.getUrl());
-        dataSource.setUsername(properties.getUsername());
-        dataSource.setPassword(properties.getPassword());
-        dataSource.setDriverClassName(properties.getDriverClassName());
-
-        return new LazyConnectionDataSourceProxy(dataSource);
+    public DataSource lazyDataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
     }
 }
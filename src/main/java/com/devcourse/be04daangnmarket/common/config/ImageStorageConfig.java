@@ -0,0 +1,36 @@
+package com.devcourse.be04daangnmarket.common.config;
+
+import com.devcourse.be04daangnmarket.common.image.ImageStorageLayout;
+import com.devcourse.be04daangnmarket.common.image.ImageVolumeProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(ImageVolumeProperties.class)
+public class ImageStorageConfig {
+    private final ImageVolumeProperties imageVolumeProperties;
+
+    public ImageStorageConfig(ImageVolumeProperties imageVolumeProperties) {
+        this.imageVolumeProperties = imageVolumeProperties;
+    }
+
+    @Bean
+    public ImageStorageLayout imageStorageLayout(@Value("${custom.base-path.image}") String basePath) {
+        return new ImageStorageLayout(imageVolumeProperties.toWeightedVolumes(basePath));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebalance(ApplicationReadyEvent event) throws IOException {
+        if (imageVolumeProperties.isRebalanceOnStartup()) {
+            event.getApplicationContext()
+                    .getBean(ImageStorageLayout.class)
+                    .rebalance();
+        }
+    }
+}
@@ -1,18 +0,0 @@
-package com.devcourse.be04daangnmarket.common.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-@Configuration
-public class ResourceConfiguration implements WebMvcConfigurer {
-    @Value("${custom.base-path.image}")
-   	private String FOLDER_PATH;
-
-    @Override
-    public void addResourceHandlers(final ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/images/**")
-        .addResourceLocations("file:///" + FOLDER_PATH);
-    }
-}
@@ -0,0 +1,115 @@
+package com.devcourse.be04daangnmarket.common.cursor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.devcourse.be04daangnmarket.common.cursor.ErrorMessage.INVALID_CURSOR;
+
+@Component
+public class CursorCodec {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String DELIMITER = ".";
+    private static final int SIGNATURE_LENGTH = 12;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec secretKey;
+
+    public CursorCodec(ObjectMapper objectMapper,
+                       @Value("${custom.cursor.secret:${jwt.secret}}") String secret) {
+        this.objectMapper = objectMapper;
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String encode(Sort sort, List<?> values) {
+        List<String> payload = new ArrayList<>();
+        payload.add(toSortKey(sort));
+        values.forEach(value -> payload.add(value == null ? null : String.valueOf(value)));
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(payload);
+
+            return ENCODER.encodeToString(json) + DELIMITER + ENCODER.encodeToString(sign(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String nextCursor(Slice<?> slice, Sort sort) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+
+        List<?> contents = slice.getContent();
+        Object last = contents.get(contents.size() - 1);
+
+        return encode(sort, KeysetQuery.lastValues(last, sort));
+    }
+
+    public List<String> decode(Sort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        int delimiterIndex = cursor.indexOf(DELIMITER);
+
+        if (delimiterIndex < 0) {
+            throw new IllegalArgumentException(INVALID_CURSOR.getMessage());
+        }
+
+        try {
+            byte[] json = DECODER.decode(cursor.substring(0, delimiterIndex));
+            byte[] signature = DECODER.decode(cursor.substring(delimiterIndex + 1));
+
+            if (!MessageDigest.isEqual(sign(json), signature)) {
+                throw new IllegalArgumentException(INVALID_CURSOR.getMessage());
+            }
+
+            List<String> payload = objectMapper.readValue(json, new TypeReference<>() {
+            });
+
+            if (payload.isEmpty() || !toSortKey(sort).equals(payload.get(0))) {
+                throw new IllegalArgumentException(INVALID_CURSOR.getMessage());
+            }
+
+            return payload.subList(1, payload.size());
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR.getMessage());
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toSortKey(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,17 @@
+package com.devcourse.be04daangnmarket.common.cursor;
+
+public enum ErrorMessage {
+    INVALID_CURSOR("올바르지 않은 커서 입니다."),
+    NOT_SORTABLE_PROPERTY("정렬할 수 없는 속성 입니다.")
+    ;
+
+    private final String message;
+
+    ErrorMessage(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
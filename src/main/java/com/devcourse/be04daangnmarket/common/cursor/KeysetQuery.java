@@ -0,0 +1,208 @@
+package com.devcourse.be04daangnmarket.common.cursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.query.criteria.JpaOrder;
+import org.hibernate.query.sqm.NullPrecedence;
+import org.springframework.beans.ConfigurablePropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.devcourse.be04daangnmarket.common.cursor.ErrorMessage.INVALID_CURSOR;
+import static com.devcourse.be04daangnmarket.common.cursor.ErrorMessage.NOT_SORTABLE_PROPERTY;
+
+public class KeysetQuery {
+    private static final String TIE_BREAKER = "id";
+
+    public static Sort withTieBreaker(Sort sort, Set<String> sortableProperties) {
+        for (Sort.Order order : sort) {
+            if (!TIE_BREAKER.equals(order.getProperty()) && !sortableProperties.contains(order.getProperty())) {
+                throw new IllegalArgumentException(NOT_SORTABLE_PROPERTY.getMessage());
+            }
+        }
+
+        if (sort.getOrderFor(TIE_BREAKER) != null) {
+            return sort;
+        }
+
+        Sort.Direction direction = sort.stream()
+                .reduce((first, second) -> second)
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.DESC);
+
+        return sort.and(Sort.by(direction, TIE_BREAKER));
+    }
+
+    public static <T> Slice<T> findAll(EntityManager em,
+                                       Class<T> type,
+                                       Specification<T> specification,
+                                       List<String> cursorValues,
+                                       Pageable pageable,
+                                       Set<String> sortableProperties) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(type);
+        Root<T> root = query.from(type);
+        Sort sort = withTieBreaker(pageable.getSort(), sortableProperties);
+
+        List<Predicate> conditions = new ArrayList<>();
+        Optional.ofNullable(specification.toPredicate(root, query, builder))
+                .ifPresent(conditions::add);
+        Optional.ofNullable(cursorValues)
+                .ifPresent(values -> conditions.add(seek(builder, root, sort, values)));
+
+        query.select(root)
+                .where(conditions.toArray(Predicate[]::new))
+                .orderBy(toOrders(builder, root, sort));
+
+        List<T> resultList = em.createQuery(query)
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        return toSlice(resultList, pageable);
+    }
+
+    public static <T> List<Order> toOrders(CriteriaBuilder builder, Root<T> root, Sort sort) {
+        return sort.stream()
+                .map(order -> toOrder(builder, root, order))
+                .toList();
+    }
+
+    public static <T> Predicate seek(CriteriaBuilder builder, Root<T> root, Sort sort, List<String> lastValues) {
+        List<Sort.Order> orders = sort.toList();
+
+        if (orders.size() != lastValues.size()) {
+            throw new IllegalArgumentException(INVALID_CURSOR.getMessage());
+        }
+
+        List<Predicate> branches = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Path<Comparable<Object>> path = root.get(order.getProperty());
+            boolean nullable = isNullable(root, order.getProperty());
+            String lastValue = lastValues.get(i);
+
+            if (lastValue == null && !nullable) {
+                throw new IllegalArgumentException(INVALID_CURSOR.getMessage());
+            }
+
+            Comparable<Object> value = lastValue == null ? null : convert(lastValue, path.getJavaType());
+            Predicate after = value == null
+                    ? afterNull(builder, path, order)
+                    : after(builder, path, order, value, nullable);
+
+            if (after != null) {
+                List<Predicate> branch = new ArrayList<>(equalities);
+                branch.add(after);
+                branches.add(builder.and(branch.toArray(Predicate[]::new)));
+            }
+
+            equalities.add(value == null
+                    ? builder.isNull(path)
+                    : builder.equal(path, value));
+        }
+
+        return builder.or(branches.toArray(Predicate[]::new));
+    }
+
+    public static List<Object> lastValues(Object row, Sort sort) {
+        ConfigurablePropertyAccessor accessor = PropertyAccessorFactory.forDirectFieldAccess(row);
+
+        return sort.stream()
+                .map(order -> accessor.getPropertyValue(order.getProperty()))
+                .collect(Collectors.toList());
+    }
+
+    public static <T> Slice<T> toSlice(List<T> contents, Pageable pageable) {
+        if (contents.size() > pageable.getPageSize()) {
+            contents.remove(contents.size() - 1);
+
+            return new SliceImpl<>(contents, pageable, true);
+        }
+
+        return new SliceImpl<>(contents, pageable, false);
+    }
+
+    private static <T> Order toOrder(CriteriaBuilder builder, Root<T> root, Sort.Order order) {
+        Path<Object> path = root.get(order.getProperty());
+        JpaOrder jpaOrder = (JpaOrder) (order.isAscending() ? builder.asc(path) : builder.desc(path));
+
+        if (!isNullable(root, order.getProperty())) {
+            return jpaOrder;
+        }
+
+        return jpaOrder.nullPrecedence(order.isAscending() ? NullPrecedence.FIRST : NullPrecedence.LAST);
+    }
+
+    private static Predicate after(CriteriaBuilder builder,
+                                   Path<Comparable<Object>> path,
+                                   Sort.Order order,
+                                   Comparable<Object> value,
+                                   boolean nullable) {
+        if (order.isAscending()) {
+            return builder.greaterThan(path, value);
+        }
+
+        return nullable
+                ? builder.or(builder.lessThan(path, value), builder.isNull(path))
+                : builder.lessThan(path, value);
+    }
+
+    private static Predicate afterNull(CriteriaBuilder builder, Path<Comparable<Object>> path, Sort.Order order) {
+        return order.isAscending()
+                ? builder.isNotNull(path)
+                : null;
+    }
+
+    private static <T> boolean isNullable(Root<T> root, String property) {
+        return root.getModel().getAttribute(property) instanceof SingularAttribute<?, ?> attribute
+                && attribute.isOptional();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<Object> convert(String value, Class<?> type) {
+        try {
+            if (type == Long.class || type == long.class) {
+                return (Comparable) Long.valueOf(value);
+            }
+
+            if (type == Integer.class || type == int.class) {
+                return (Comparable) Integer.valueOf(value);
+            }
+
+            if (type == Double.class || type == double.class) {
+                return (Comparable) Double.valueOf(value);
+            }
+
+            if (type == LocalDateTime.class) {
+                return (Comparable) LocalDateTime.parse(value);
+            }
+
+            if (type.isEnum()) {
+                return (Comparable) Enum.valueOf((Class) type, value);
+            }
+
+            return (Comparable) value;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.devcourse.be04daangnmarket.common.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RecentWriteTracker {
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Map<Long, Long> expiresAt = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final Clock clock;
+
+    public RecentWriteTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void markWritten(Long userId) {
+        if (userId == null || window.isZero()) {
+            return;
+        }
+
+        long now = clock.millis();
+
+        if (expiresAt.size() >= CLEANUP_THRESHOLD) {
+            expiresAt.values().removeIf(expireAt -> expireAt <= now);
+        }
+
+        expiresAt.put(userId, now + window.toMillis());
+    }
+
+    public boolean hasRecentWrite(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+
+        Long expireAt = expiresAt.get(userId);
+
+        if (expireAt == null) {
+            return false;
+        }
+
+        if (expireAt <= clock.millis()) {
+            expiresAt.remove(userId, expireAt);
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.devcourse.be04daangnmarket.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+@ConfigurationProperties(prefix = "custom.datasource")
+public class ReplicaProperties {
+    private List<Map<String, String>> replicas = new ArrayList<>();
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+
+    public List<Map<String, String>> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Map<String, String>> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public List<Properties> toHikariProperties() {
+        return replicas.stream()
+                .map(replica -> {
+                    Properties properties = new Properties();
+                    properties.putAll(replica);
+
+                    return properties;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.devcourse.be04daangnmarket.common.datasource;
+
+import com.devcourse.be04daangnmarket.common.auth.User;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA_PREFIX = "replica-";
+
+    private static final String ROUTING_METRIC = "datasource.routing";
+    private static final ThreadLocal<Boolean> PRIMARY_READ = ThreadLocal.withInitial(() -> false);
+
+    private final List<HikariDataSource> replicas;
+    private final List<String> replicaKeys;
+    private final RecentWriteTracker recentWriteTracker;
+    private final Map<String, Counter> routingCounters = new HashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary,
+                                        List<HikariDataSource> replicas,
+                                        RecentWriteTracker recentWriteTracker,
+                                        MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.replicaKeys = IntStream.range(0, replicas.size())
+                .mapToObj(index -> REPLICA_PREFIX + index)
+                .toList();
+        this.recentWriteTracker = recentWriteTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        IntStream.range(0, replicas.size())
+                .forEach(index -> targets.put(replicaKeys.get(index), replicas.get(index)));
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        if (meterRegistry != null) {
+            targets.keySet().forEach(key -> routingCounters.put((String) key, Counter.builder(ROUTING_METRIC)
+                    .tag("target", (String) key)
+                    .register(meterRegistry)));
+        }
+    }
+
+    public static <T> T readFromPrimary(Supplier<T> reader) {
+        boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(true);
+
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY_READ.set(previous);
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = route();
+        Counter counter = routingCounters.get(key);
+
+        if (counter != null) {
+            counter.increment();
+        }
+
+        return key;
+    }
+
+    private String route() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWrittenAfterCommit(userId);
+            return PRIMARY;
+        }
+
+        if (replicaKeys.isEmpty() || PRIMARY_READ.get() || recentWriteTracker.hasRecentWrite(userId)) {
+            return PRIMARY;
+        }
+
+        int index = Math.floorMod(sequence.getAndIncrement(), replicaKeys.size());
+
+        return replicaKeys.get(index);
+    }
+
+    private void markWrittenAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriteTracker.markWritten(userId);
+            }
+        });
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+
+        return null;
+    }
+}
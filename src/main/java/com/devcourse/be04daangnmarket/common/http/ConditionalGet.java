@@ -0,0 +1,18 @@
+package com.devcourse.be04daangnmarket.common.http;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public class ConditionalGet {
+    private static final String WEAK_ETAG = "W/\"%d-%d\"";
+
+    public static boolean isNotModified(WebRequest request, Long id, LocalDateTime updatedAt) {
+        long lastModified = updatedAt.atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+
+        return request.checkNotModified(String.format(WEAK_ETAG, id, lastModified), lastModified);
+    }
+}
@@ -0,0 +1,24 @@
+package com.devcourse.be04daangnmarket.common.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.nio.file.Path;
+
+public class Sendfile {
+    private static final String SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    public static boolean isSupported(HttpServletRequest request) {
+        return Boolean.TRUE.equals(request.getAttribute(SUPPORT_ATTRIBUTE));
+    }
+
+    public static void transfer(HttpServletRequest request, HttpServletResponse response, Path file, long start, long end) {
+        request.setAttribute(FILENAME_ATTRIBUTE, file.toAbsolutePath().toString());
+        request.setAttribute(START_ATTRIBUTE, start);
+        request.setAttribute(END_ATTRIBUTE, end);
+        response.setContentLengthLong(end - start);
+    }
+}
@@ -0,0 +1,72 @@
+package com.devcourse.be04daangnmarket.common.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Snowflake {
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long EPOCH = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final Map<Integer, Snowflake> NODES = new ConcurrentHashMap<>();
+
+    private final long node;
+    private final Clock clock;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public Snowflake(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID);
+        }
+
+        this.node = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public static Snowflake forNode(int nodeId) {
+        return NODES.computeIfAbsent(nodeId, id -> new Snowflake(id, Clock.systemUTC()));
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(clock.millis() - EPOCH, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+
+            if (sequence == 0) {
+                timestamp = nextMillis(timestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+
+        return timestamp << TIMESTAMP_SHIFT | node | sequence;
+    }
+
+    private long nextMillis(long timestamp) {
+        long now = clock.millis() - EPOCH;
+
+        if (now < timestamp) {
+            return timestamp + 1;
+        }
+
+        while (now <= timestamp) {
+            Thread.onSpinWait();
+            now = clock.millis() - EPOCH;
+        }
+
+        return now;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+}
@@ -0,0 +1,33 @@
+package com.devcourse.be04daangnmarket.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+    public static final String NODE_ID = "hibernate.id.snowflake.node-id";
+
+    private Snowflake snowflake;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        Object nodeId = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID);
+
+        if (nodeId == null || nodeId.toString().isBlank()) {
+            throw new IllegalStateException(NODE_ID + " must be set to a node id unique to this instance");
+        }
+
+        snowflake = Snowflake.forNode(Integer.parseInt(nodeId.toString().trim()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflake.nextId();
+    }
+}
@@ -0,0 +1,134 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.image.exception.FileUploadException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.FILE_UPLOAD_EXCEPTION;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_CORRECT_UPLOAD_CHUNK;
+
+@Component
+public class ChunkedUploadStore {
+    private static final String UPLOAD_DIRECTORY = "uploads";
+    private static final String PART_SUFFIX = ".part";
+
+    private final ImageStorageLayout imageStorageLayout;
+    private final Path uploadDirectory;
+    private final Duration expiry;
+    private final boolean fsync;
+
+    public ChunkedUploadStore(ImageStorageLayout imageStorageLayout,
+                              @Value("${custom.image.upload.chunked.expiry:24h}") Duration expiry,
+                              @Value("${custom.image.upload.fsync:false}") boolean fsync) {
+        this.imageStorageLayout = imageStorageLayout;
+        this.uploadDirectory = imageStorageLayout.stagingDirectory().resolve(UPLOAD_DIRECTORY);
+        this.expiry = expiry;
+        this.fsync = fsync;
+
+        try {
+            Files.createDirectories(uploadDirectory);
+        } catch (IOException e) {
+            throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+        }
+    }
+
+    public void allocate(String uploadId, long size) {
+        try (RandomAccessFile part = new RandomAccessFile(partOf(uploadId).toFile(), "rw")) {
+            part.setLength(size);
+        } catch (IOException e) {
+            throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+        }
+    }
+
+    public void write(String uploadId, long offset, long length, InputStream body) {
+        try (FileChannel part = FileChannel.open(partOf(uploadId), StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(body)) {
+            long written = 0;
+            long transferred;
+
+            while (written < length
+                    && (transferred = part.transferFrom(source, offset + written, length - written)) > 0) {
+                written += transferred;
+            }
+
+            if (written != length) {
+                throw new IllegalArgumentException(NOT_CORRECT_UPLOAD_CHUNK.getMessage());
+            }
+
+            if (fsync) {
+                part.force(false);
+            }
+        } catch (IOException e) {
+            throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+        }
+    }
+
+    public ImageDto.ImageDetail complete(String uploadId, String originName) {
+        Path part = partOf(uploadId);
+
+        try (FileInputStream inputStream = new FileInputStream(part.toFile())) {
+            StreamingImageWriter writer = StreamingImageWriter.open(inputStream);
+            StreamingImageWriter.StoredImage stored = writer.store(imageStorageLayout, fsync);
+
+            return new ImageDto.ImageDetail(originName, stored.fileName(), writer.getType());
+        } catch (IOException e) {
+            throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+        }
+    }
+
+    public boolean exists(String uniqueName) {
+        return Files.isRegularFile(imageStorageLayout.locate(uniqueName));
+    }
+
+    public void discard(String uploadId) {
+        try {
+            Files.deleteIfExists(partOf(uploadId));
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.image.upload.chunked.purge-interval:3600000}")
+    public void purgeExpired() throws IOException {
+        Instant expiredBefore = Instant.now().minus(expiry);
+        List<Path> expired;
+
+        try (Stream<Path> parts = Files.list(uploadDirectory)) {
+            expired = parts.filter(part -> part.getFileName().toString().endsWith(PART_SUFFIX))
+                    .filter(part -> isModifiedBefore(part, expiredBefore))
+                    .toList();
+        }
+
+        for (Path part : expired) {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    private boolean isModifiedBefore(Path part, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(part).toInstant().isBefore(instant);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Path partOf(String uploadId) {
+        return uploadDirectory.resolve(uploadId + PART_SUFFIX);
+    }
+}
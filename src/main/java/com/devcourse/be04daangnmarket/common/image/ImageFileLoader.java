@@ -0,0 +1,115 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import com.devcourse.be04daangnmarket.common.cache.ByteArrayLruCache;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.NoSuchElementException;
+
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_FOUND_IMAGE;
+
+@Component
+public class ImageFileLoader {
+    private static final String CACHE_NAME = "image.file";
+
+    private final ImageStorageLayout imageStorageLayout;
+    private final ByteArrayLruCache memoryCache;
+    private final long maxCachedFileSize;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ImageFileLoader(ImageStorageLayout imageStorageLayout,
+                           MeterRegistry meterRegistry,
+                           @Value("${custom.image.serve.memory-cache.max-size:64MB}") DataSize cacheMaxSize,
+                           @Value("${custom.image.serve.memory-cache.max-file-size:64KB}") DataSize maxCachedFileSize) {
+        this.imageStorageLayout = imageStorageLayout;
+        this.memoryCache = new ByteArrayLruCache(cacheMaxSize.toBytes());
+        this.maxCachedFileSize = maxCachedFileSize.toBytes();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+
+        FunctionCounter.builder("cache.evictions", memoryCache, ByteArrayLruCache::evictionCount)
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "memory")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", memoryCache, ByteArrayLruCache::size)
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "memory")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "memory")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public void ensureExists(String uniqueName) {
+        if (!Files.isRegularFile(imageStorageLayout.locate(uniqueName))) {
+            throw new NoSuchElementException(NOT_FOUND_IMAGE.getMessage());
+        }
+    }
+
+    public void evict(String name) {
+        memoryCache.remove(name);
+    }
+
+    public ImageFile load(String uniqueName) {
+        ImageFile cached = getCached(uniqueName);
+
+        return cached != null ? cached : read(uniqueName, imageStorageLayout.locate(uniqueName));
+    }
+
+    public ImageFile load(Path file) {
+        String name = file.getFileName().toString();
+        ImageFile cached = getCached(name);
+
+        return cached != null ? cached : read(name, file);
+    }
+
+    private ImageFile getCached(String name) {
+        byte[] content = memoryCache.get(name);
+
+        if (content == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return new ImageFile(name, null, content.length, content);
+    }
+
+    private ImageFile read(String name, Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+            if (!attributes.isRegularFile()) {
+                throw new NoSuchElementException(NOT_FOUND_IMAGE.getMessage());
+            }
+
+            if (attributes.size() > maxCachedFileSize) {
+                return new ImageFile(name, file, attributes.size(), null);
+            }
+
+            byte[] content = Files.readAllBytes(file);
+            memoryCache.put(name, content);
+
+            return new ImageFile(name, file, content.length, content);
+        } catch (IOException e) {
+            throw new NoSuchElementException(NOT_FOUND_IMAGE.getMessage());
+        }
+    }
+}
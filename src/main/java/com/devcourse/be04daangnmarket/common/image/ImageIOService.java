@@ -1,12 +1,16 @@
 package com.devcourse.be04daangnmarket.common.image;
 
 import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageVariant;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ImageIOService {
     List<ImageDto.ImageDetail> uploadImages(List<MultipartFile> multipartFiles);
 
+    Map<ImageVariant, String> createVariants(String uniqueName);
+
     void delete(String path);
 }
@@ -0,0 +1,198 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_CONFIGURED_IMAGE_VOLUME;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_FOUND_IMAGE;
+
+public class ImageStorageLayout {
+    private static final int VIRTUAL_NODES_PER_WEIGHT = 160;
+    private static final String STAGING_DIRECTORY = ".staging";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SHARD_FORMAT = "%02x";
+
+    private final List<Path> volumes = new ArrayList<>();
+    private final NavigableMap<Long, Path> ring = new TreeMap<>();
+
+    public ImageStorageLayout(Map<Path, Integer> weightedVolumes) {
+        weightedVolumes.forEach((path, weight) -> {
+            Path volume = path.toAbsolutePath().normalize();
+            volumes.add(volume);
+
+            for (int i = 0; i < weight * VIRTUAL_NODES_PER_WEIGHT; i++) {
+                ring.put(hash(volume + "#" + i), volume);
+            }
+        });
+
+        if (ring.isEmpty()) {
+            throw new IllegalArgumentException(NOT_CONFIGURED_IMAGE_VOLUME.getMessage());
+        }
+
+        try {
+            for (Path volume : volumes) {
+                Files.createDirectories(volume.resolve(STAGING_DIRECTORY));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path resolve(String fileName) {
+        long hash = hash(keyOf(fileName));
+
+        return ownerOf(hash).resolve(relativePathOf(fileName, hash));
+    }
+
+    public Path locate(String fileName) {
+        Path primary = resolve(fileName);
+
+        if (Files.exists(primary)) {
+            return primary;
+        }
+
+        Path relativePath = relativePathOf(fileName, hash(keyOf(fileName)));
+
+        for (Path volume : volumes) {
+            for (Path candidate : List.of(volume.resolve(relativePath), volume.resolve(fileName))) {
+                if (Files.exists(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+
+        return primary;
+    }
+
+    public Path stagingDirectory() {
+        return volumes.get(0).resolve(STAGING_DIRECTORY);
+    }
+
+    public List<Path> getVolumes() {
+        return List.copyOf(volumes);
+    }
+
+    public void publish(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), TEMP_SUFFIX);
+
+            try {
+                Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                Files.delete(source);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    public Stream<Path> files(Path volume) throws IOException {
+        return Files.walk(volume, 3)
+                .filter(Files::isRegularFile)
+                .filter(file -> isLayoutFile(volume.relativize(file)));
+    }
+
+    public int rebalance() throws IOException {
+        int moved = 0;
+
+        for (Path volume : volumes) {
+            List<Path> misplaced;
+
+            try (Stream<Path> files = files(volume)) {
+                misplaced = files.filter(file -> !file.equals(resolve(file.getFileName().toString())))
+                        .toList();
+            }
+
+            for (Path file : misplaced) {
+                Path target = resolve(file.getFileName().toString());
+
+                if (Files.exists(target)) {
+                    Files.delete(file);
+                } else {
+                    publish(file, target);
+                }
+
+                moved++;
+            }
+        }
+
+        return moved;
+    }
+
+    private boolean isLayoutFile(Path relativePath) {
+        String fileName = relativePath.getFileName().toString();
+
+        if (fileName.startsWith(".") || fileName.endsWith(TEMP_SUFFIX)) {
+            return false;
+        }
+
+        return relativePath.getNameCount() == 1
+                || relativePath.getNameCount() == 3
+                && relativePath.getName(0).toString().length() == 2
+                && relativePath.getName(1).toString().length() == 2;
+    }
+
+    private Path ownerOf(long hash) {
+        Map.Entry<Long, Path> owner = ring.ceilingEntry(hash);
+
+        return owner == null ? ring.firstEntry().getValue() : owner.getValue();
+    }
+
+    private Path relativePathOf(String fileName, long hash) {
+        return Path.of(
+                String.format(SHARD_FORMAT, (hash >>> 8) & 0xff),
+                String.format(SHARD_FORMAT, hash & 0xff),
+                fileName);
+    }
+
+    private String keyOf(String fileName) {
+        if (fileName.isEmpty() || fileName.startsWith(".") || fileName.contains("/") || fileName.contains("\\")) {
+            throw new NoSuchElementException(NOT_FOUND_IMAGE.getMessage());
+        }
+
+        int end = fileName.length();
+        for (int i = 0; i < fileName.length(); i++) {
+            char c = fileName.charAt(i);
+
+            if (c == '_' || c == '.') {
+                end = i;
+                break;
+            }
+        }
+
+        return fileName.substring(0, end);
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb33fe53a2e3bL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,67 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "custom.image")
+public class ImageVolumeProperties {
+    private List<Volume> volumes = new ArrayList<>();
+    private boolean rebalanceOnStartup = false;
+
+    public List<Volume> getVolumes() {
+        return volumes;
+    }
+
+    public void setVolumes(List<Volume> volumes) {
+        this.volumes = volumes;
+    }
+
+    public boolean isRebalanceOnStartup() {
+        return rebalanceOnStartup;
+    }
+
+    public void setRebalanceOnStartup(boolean rebalanceOnStartup) {
+        this.rebalanceOnStartup = rebalanceOnStartup;
+    }
+
+    public Map<Path, Integer> toWeightedVolumes(String defaultPath) {
+        Map<Path, Integer> weightedVolumes = new LinkedHashMap<>();
+
+        if (volumes.isEmpty()) {
+            weightedVolumes.put(Paths.get(defaultPath), 1);
+        }
+
+        for (Volume volume : volumes) {
+            weightedVolumes.put(Paths.get(volume.getPath()), volume.getWeight());
+        }
+
+        return weightedVolumes;
+    }
+
+    public static class Volume {
+        private String path;
+        private int weight = 1;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -1,94 +1,179 @@
 package com.devcourse.be04daangnmarket.common.image;
 
-import com.devcourse.be04daangnmarket.common.image.dto.ImageSavedEvent;
-import com.devcourse.be04daangnmarket.common.image.dto.Type;
 import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageVariant;
 import com.devcourse.be04daangnmarket.image.exception.FileDeleteException;
 import com.devcourse.be04daangnmarket.image.exception.FileUploadException;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.FILE_DELETE_EXCEPTION;
 import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.FILE_UPLOAD_EXCEPTION;
 
 @Component
 public class LocalImageIOService implements ImageIOService {
-    @Value("${custom.base-path.image}")
-   	private String FOLDER_PATH;
+	private final ImageStorageLayout imageStorageLayout;
+
+	@Value("${custom.image.upload.io-threads:4}")
+	private int ioThreads;
+
+	@Value("${custom.image.upload.fsync:false}")
+	private boolean fsync;
+
+	private ThreadPoolExecutor ioExecutor;
+
+	public LocalImageIOService(ImageStorageLayout imageStorageLayout) {
+		this.imageStorageLayout = imageStorageLayout;
+	}
 
 	@PostConstruct
-	private void makeDirectory() {
-		File file = new File(FOLDER_PATH);
+	private void initialize() {
+		ioExecutor = new ThreadPoolExecutor(
+				ioThreads,
+				ioThreads,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(ioThreads * 4),
+				new CustomizableThreadFactory("image-io-"),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
 
-		if (isEmptyFile(file)) {
-			file.mkdirs();
-		}
+	@PreDestroy
+	private void shutdown() {
+		ioExecutor.shutdown();
 	}
 
 	@Override
     public List<ImageDto.ImageDetail> uploadImages(List<MultipartFile> multipartFiles) {
-		List<ImageDto.ImageDetail> imageDetails = isEmptyImages(multipartFiles)
+		return isEmptyImages(multipartFiles)
 				? Collections.emptyList()
-				: multipartFiles.stream()
-				.map(this::uploadImage)
-				.toList();
-
-		for (ImageDto.ImageDetail imageDetail : imageDetails) {
-			ImageEvents.raise(new ImageSavedEvent(imageDetail.uniqueName()));
-		}
-
-		return imageDetails;
+				: uploadInParallel(multipartFiles);
     }
 
 	private boolean isEmptyImages(List<MultipartFile> multipartFiles) {
 		return multipartFiles == null || multipartFiles.get(0).isEmpty();
 	}
 
-    private ImageDto.ImageDetail uploadImage(MultipartFile multipartFile) {
-		Type imageType = Type.findImageType(multipartFile.getContentType());
-        String uniqueName = createUniqueName(imageType);
+	private List<ImageDto.ImageDetail> uploadInParallel(List<MultipartFile> multipartFiles) {
+		List<CompletableFuture<ImageDto.ImageDetail>> uploads = multipartFiles.stream()
+				.map(multipartFile -> CompletableFuture.supplyAsync(() -> uploadImage(multipartFile), ioExecutor))
+				.toList();
+
+		try {
+			CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
 
-        saveImageToLocalStorage(multipartFile, uniqueName);
+			throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+		}
 
-		return new ImageDto.ImageDetail(multipartFile.getOriginalFilename(), uniqueName, imageType);
+		return uploads.stream()
+				.map(CompletableFuture::join)
+				.toList();
+	}
+
+    private ImageDto.ImageDetail uploadImage(MultipartFile multipartFile) {
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			StreamingImageWriter writer = StreamingImageWriter.open(inputStream);
+			StreamingImageWriter.StoredImage stored = writer.store(imageStorageLayout, fsync);
+
+			return new ImageDto.ImageDetail(
+					multipartFile.getOriginalFilename(),
+					stored.fileName(),
+					writer.getType());
+		} catch (IOException e) {
+			throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+		}
     }
 
-    private String createUniqueName(Type imageType) {
-   		return UUID.randomUUID() + "." + imageType.name();
+    private Path getFullPath(String uniqueName) {
+   		return imageStorageLayout.locate(uniqueName);
    	}
 
-    private void saveImageToLocalStorage(MultipartFile multipartFile, String uniqueName) {
-   		try {
-			String fullPath = getFullPath(uniqueName);
-			File file = new File(fullPath);
-			multipartFile.transferTo(file);
-   		} catch (IOException e) {
-   			throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
-   		}
-   	}
+	@Override
+	public Map<ImageVariant, String> createVariants(String uniqueName) {
+		Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
 
-    private boolean isEmptyFile(File file) {
-   		return !file.exists();
-   	}
+		if (hasAllVariants(uniqueName)) {
+			for (ImageVariant variant : ImageVariant.values()) {
+				variants.put(variant, variant.fileNameOf(uniqueName));
+			}
 
-    private String getFullPath(String uniqueName) {
-   		return FOLDER_PATH + "/" + uniqueName;
-   	}
+			return variants;
+		}
+
+		try {
+			BufferedImage original = ImageIO.read(getFullPath(uniqueName).toFile());
+
+			if (original == null) {
+				return variants;
+			}
+
+			for (ImageVariant variant : ImageVariant.values()) {
+				String variantName = variant.fileNameOf(uniqueName);
+				writeVariant(ImageResizer.fitWithin(original, variant.getMaxSize()), variantName);
+				variants.put(variant, variantName);
+			}
+		} catch (IOException e) {
+			throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+		}
+
+		return variants;
+	}
+
+	private boolean hasAllVariants(String uniqueName) {
+		for (ImageVariant variant : ImageVariant.values()) {
+			if (!Files.exists(getFullPath(variant.fileNameOf(uniqueName)))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void writeVariant(BufferedImage image, String variantName) throws IOException {
+		Path target = imageStorageLayout.resolve(variantName);
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), variantName, ".tmp");
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(temp)) {
+				ImageResizer.writeJpeg(image, outputStream);
+			}
+
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
 
 	@Override
 	public void delete(String fileName) {
-		Path fullPath = Paths.get(FOLDER_PATH + "/" + fileName);
+		Path fullPath = getFullPath(fileName);
 
 		try {
 			Files.delete(fullPath);
@@ -0,0 +1,118 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import com.devcourse.be04daangnmarket.common.cache.DiskLruCache;
+import com.devcourse.be04daangnmarket.common.cache.SingleFlight;
+import com.devcourse.be04daangnmarket.image.exception.FileUploadException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.FILE_UPLOAD_EXCEPTION;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_CORRECT_IMAGE_WIDTH;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_FOUND_IMAGE;
+
+@Component
+public class ResizedImageStore {
+    private static final String CACHE_NAME = "image.resized";
+    private static final String RESIZED_NAME = "%s_w%d.jpg";
+
+    private final ImageStorageLayout imageStorageLayout;
+    private final DiskLruCache diskCache;
+    private final SingleFlight<String, Path> singleFlight = new SingleFlight<>();
+    private final int maxWidth;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResizedImageStore(ImageStorageLayout imageStorageLayout,
+                             MeterRegistry meterRegistry,
+                             @Value("${custom.image.resize.cache-path:${custom.base-path.image}/resized}") String cachePath,
+                             @Value("${custom.image.resize.cache-max-size:512MB}") DataSize cacheMaxSize,
+                             @Value("${custom.image.resize.max-width:2048}") int maxWidth) {
+        this.imageStorageLayout = imageStorageLayout;
+        this.diskCache = new DiskLruCache(Paths.get(cachePath), cacheMaxSize.toBytes());
+        this.maxWidth = maxWidth;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+
+        FunctionCounter.builder("cache.evictions", diskCache, DiskLruCache::evictionCount)
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "disk")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", diskCache, DiskLruCache::size)
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "disk")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "disk")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Path getResized(String uniqueName, int width) {
+        if (width < 1 || width > maxWidth) {
+            throw new IllegalArgumentException(NOT_CORRECT_IMAGE_WIDTH.getMessage());
+        }
+
+        String key = resizedNameOf(uniqueName, width);
+        Path cached = diskCache.get(key);
+
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        return singleFlight.load(key, () -> {
+            Path loaded = diskCache.get(key);
+
+            return loaded != null ? loaded : resize(uniqueName, width, key);
+        });
+    }
+
+    private String resizedNameOf(String uniqueName, int width) {
+        int extensionIndex = uniqueName.lastIndexOf('.');
+        String baseName = extensionIndex < 0 ? uniqueName : uniqueName.substring(0, extensionIndex);
+
+        return String.format(RESIZED_NAME, baseName, width);
+    }
+
+    private Path resize(String uniqueName, int width, String key) {
+        Path original = imageStorageLayout.locate(uniqueName);
+
+        if (!Files.isRegularFile(original)) {
+            throw new NoSuchElementException(NOT_FOUND_IMAGE.getMessage());
+        }
+
+        try {
+            BufferedImage source = ImageIO.read(original.toFile());
+
+            if (source == null) {
+                throw new NoSuchElementException(NOT_FOUND_IMAGE.getMessage());
+            }
+
+            BufferedImage resized = ImageResizer.fitWidth(source, width);
+
+            return diskCache.put(key, outputStream -> ImageResizer.writeJpeg(resized, outputStream));
+        } catch (IOException e) {
+            throw new FileUploadException(FILE_UPLOAD_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+public class StreamingImageWriter {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String TEMP_PREFIX = "upload-";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private final ReadableByteChannel source;
+    private final FileChannel fileSource;
+    private final ByteBuffer pendingHeader;
+    private final Type type;
+
+    private StreamingImageWriter(ReadableByteChannel source, FileChannel fileSource, ByteBuffer pendingHeader, Type type) {
+        this.source = source;
+        this.fileSource = fileSource;
+        this.pendingHeader = pendingHeader;
+        this.type = type;
+    }
+
+    public static StreamingImageWriter open(InputStream inputStream) throws IOException {
+        if (inputStream instanceof FileInputStream fileInputStream) {
+            FileChannel source = fileInputStream.getChannel();
+            long start = source.position();
+            ByteBuffer header = readHeader(buffer -> source.read(buffer, start + buffer.position()));
+
+            return new StreamingImageWriter(source, source, null, Type.detect(header));
+        }
+
+        ReadableByteChannel source = Channels.newChannel(inputStream);
+        ByteBuffer header = readHeader(source::read);
+
+        return new StreamingImageWriter(source, null, header, Type.detect(header));
+    }
+
+    private static ByteBuffer readHeader(HeaderReader reader) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Type.SIGNATURE_LENGTH);
+
+        int read;
+        do {
+            read = reader.read(header);
+        } while (read > 0 && header.hasRemaining());
+
+        return header.flip();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public StoredImage store(ImageStorageLayout layout, boolean fsync) throws IOException {
+        Path temp = null;
+
+        try {
+            String fileName;
+
+            if (fileSource != null) {
+                fileName = fileNameOf(digest(fileSource));
+                Path target = layout.resolve(fileName);
+
+                if (Files.exists(target)) {
+                    return reuse(fileName, target);
+                }
+
+                Files.createDirectories(target.getParent());
+                temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, TEMP_SUFFIX);
+                transfer(temp, fsync);
+            } else {
+                temp = Files.createTempFile(layout.stagingDirectory(), TEMP_PREFIX, TEMP_SUFFIX);
+                fileName = fileNameOf(copyWithDigest(temp, fsync));
+            }
+
+            Path target = layout.resolve(fileName);
+
+            if (Files.exists(target)) {
+                return reuse(fileName, target);
+            }
+
+            layout.publish(temp, target);
+
+            return new StoredImage(fileName, true);
+        } finally {
+            if (temp != null) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private StoredImage reuse(String fileName, Path target) throws IOException {
+        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+
+        return new StoredImage(fileName, false);
+    }
+
+    private String fileNameOf(byte[] digest) {
+        return HexFormat.of().formatHex(digest) + "." + type.name();
+    }
+
+    private byte[] digest(FileChannel file) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long position = file.position();
+
+        int read;
+        while ((read = file.read(buffer, position)) > 0) {
+            position += read;
+            digest.update(buffer.flip());
+            buffer.clear();
+        }
+
+        return digest.digest();
+    }
+
+    private void transfer(Path temp, boolean fsync) throws IOException {
+        try (FileChannel output = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+
+            while ((transferred = output.transferFrom(fileSource, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+
+            if (fsync) {
+                output.force(true);
+            }
+        }
+    }
+
+    private byte[] copyWithDigest(Path temp, boolean fsync) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        try (FileChannel output = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            digest.update(pendingHeader.duplicate());
+            while (pendingHeader.hasRemaining()) {
+                output.write(pendingHeader);
+            }
+
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+
+                while (buffer.hasRemaining()) {
+                    output.write(buffer);
+                }
+
+                buffer.clear();
+            }
+
+            if (fsync) {
+                output.force(true);
+            }
+        }
+
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record StoredImage(
+            String fileName,
+
+            boolean created
+    ) {
+    }
+
+    @FunctionalInterface
+    private interface HeaderReader {
+        int read(ByteBuffer buffer) throws IOException;
+    }
+}
@@ -0,0 +1,17 @@
+package com.devcourse.be04daangnmarket.common.image.dto;
+
+import java.nio.file.Path;
+
+public record ImageFile(
+        String name,
+
+        Path path,
+
+        long length,
+
+        byte[] content
+) {
+    public boolean isInMemory() {
+        return content != null;
+    }
+}
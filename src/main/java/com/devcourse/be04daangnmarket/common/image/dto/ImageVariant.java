@@ -0,0 +1,28 @@
+package com.devcourse.be04daangnmarket.common.image.dto;
+
+public enum ImageVariant {
+    THUMBNAIL("thumb", 240),
+    MEDIUM("medium", 720)
+    ;
+
+    private static final String EXTENSION = ".jpg";
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String fileNameOf(String uniqueName) {
+        int extensionIndex = uniqueName.lastIndexOf('.');
+        String baseName = extensionIndex < 0 ? uniqueName : uniqueName.substring(0, extensionIndex);
+
+        return baseName + "_" + suffix + EXTENSION;
+    }
+}
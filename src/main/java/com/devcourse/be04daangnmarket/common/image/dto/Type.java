@@ -3,6 +3,7 @@ package com.devcourse.be04daangnmarket.common.image.dto;
 import com.devcourse.be04daangnmarket.image.exception.ExceptionMessage;
 import com.devcourse.be04daangnmarket.image.exception.FileUploadException;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 public enum Type {
@@ -11,6 +12,11 @@ public enum Type {
     JPG("image/jpg")
     ;
 
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    public static final int SIGNATURE_LENGTH = PNG_SIGNATURE.length;
+
     private final String fullType;
 
     Type(String fullType) {
@@ -29,4 +35,30 @@ public enum Type {
                         () -> new FileUploadException(ExceptionMessage.NOT_CORRECT_IMAGE_TYPE_EXCEPTION.getMessage())
                 );
     }
+
+    public static Type detect(ByteBuffer header) {
+        if (startsWith(header, PNG_SIGNATURE)) {
+            return PNG;
+        }
+
+        if (startsWith(header, JPEG_SIGNATURE)) {
+            return JPEG;
+        }
+
+        throw new FileUploadException(ExceptionMessage.NOT_CORRECT_IMAGE_TYPE_EXCEPTION.getMessage());
+    }
+
+    private static boolean startsWith(ByteBuffer header, byte[] signature) {
+        if (header.remaining() < signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+            if (header.get(header.position() + i) != signature[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
@@ -0,0 +1,166 @@
+package com.devcourse.be04daangnmarket.image.api;
+
+import com.devcourse.be04daangnmarket.common.http.Sendfile;
+import com.devcourse.be04daangnmarket.common.image.ImageFileLoader;
+import com.devcourse.be04daangnmarket.common.image.ResizedImageStore;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageFile;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Tag(name = "image", description = "이미지 API")
+@RestController
+public class ImageRestController {
+    private static final CacheControl IMMUTABLE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+    private static final String ACCEPT_RANGES = "bytes";
+    private static final String CONTENT_RANGE = "bytes %d-%d/%d";
+
+    private final ResizedImageStore resizedImageStore;
+    private final ImageFileLoader imageFileLoader;
+
+    public ImageRestController(ResizedImageStore resizedImageStore, ImageFileLoader imageFileLoader) {
+        this.resizedImageStore = resizedImageStore;
+        this.imageFileLoader = imageFileLoader;
+    }
+
+    @Tag(name = "image")
+    @Operation(description = "저장된 원본 이미지를 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 이미지를 조회한 경우"),
+            @ApiResponse(responseCode = "206", description = "요청한 범위만 조회한 경우"),
+            @ApiResponse(responseCode = "304", description = "이미지가 변경되지 않은 경우"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 이미지를 조회한 경우")
+    })
+    @GetMapping(value = "/images/{name}", params = "!w")
+    public ResponseEntity<Resource> getImage(@PathVariable String name,
+                                             WebRequest webRequest,
+                                             HttpServletRequest request,
+                                             HttpServletResponse response) {
+        String eTag = "\"" + name + "\"";
+        imageFileLoader.ensureExists(name);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified();
+        }
+
+        return serve(imageFileLoader.load(name), eTag, request, response);
+    }
+
+    @Tag(name = "image")
+    @Operation(description = "요청한 너비로 축소한 이미지를 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 이미지를 조회한 경우"),
+            @ApiResponse(responseCode = "304", description = "이미지가 변경되지 않은 경우"),
+            @ApiResponse(responseCode = "400", description = "너비가 허용 범위를 벗어난 경우"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 이미지를 조회한 경우")
+    })
+    @GetMapping(value = "/images/{name}", params = "w")
+    public ResponseEntity<Resource> getResizedImage(@PathVariable String name,
+                                                    @RequestParam("w") int width,
+                                                    WebRequest webRequest,
+                                                    HttpServletRequest request,
+                                                    HttpServletResponse response) {
+        String eTag = "\"" + name + "-" + width + "\"";
+        imageFileLoader.ensureExists(name);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified();
+        }
+
+        Path resized = resizedImageStore.getResized(name, width);
+
+        return serve(imageFileLoader.load(resized), eTag, request, response);
+    }
+
+    private ResponseEntity<Resource> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build();
+    }
+
+    private ResponseEntity<Resource> serve(ImageFile imageFile,
+                                           String eTag,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaTypeFactory.getMediaType(imageFile.name()).orElse(MediaType.APPLICATION_OCTET_STREAM));
+        headers.setETag(eTag);
+        headers.setCacheControl(IMMUTABLE_CACHE_CONTROL);
+        headers.set(HttpHeaders.ACCEPT_RANGES, ACCEPT_RANGES);
+
+        if (imageFile.isInMemory()) {
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(new ByteArrayResource(imageFile.content()));
+        }
+
+        List<HttpRange> ranges = getRanges(request, eTag, imageFile.length());
+
+        if (!canSendfile(request, ranges)) {
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(new FileSystemResource(imageFile.path()));
+        }
+
+        long start = 0;
+        long end = imageFile.length();
+
+        if (!ranges.isEmpty()) {
+            start = ranges.get(0).getRangeStart(imageFile.length());
+            end = ranges.get(0).getRangeEnd(imageFile.length()) + 1;
+            headers.set(HttpHeaders.CONTENT_RANGE, String.format(CONTENT_RANGE, start, end - 1, imageFile.length()));
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        }
+
+        headers.forEach((headerName, values) -> values.forEach(value -> response.addHeader(headerName, value)));
+        Sendfile.transfer(request, response, imageFile.path(), start, end);
+
+        return null;
+    }
+
+    private List<HttpRange> getRanges(HttpServletRequest request, String eTag, long length) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return List.of();
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+            ranges.forEach(range -> range.getRangeStart(length));
+
+            return ranges;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean canSendfile(HttpServletRequest request, List<HttpRange> ranges) {
+        return HttpMethod.GET.matches(request.getMethod())
+                && Sendfile.isSupported(request)
+                && ranges != null
+                && ranges.size() <= 1;
+    }
+}
@@ -0,0 +1,97 @@
+package com.devcourse.be04daangnmarket.image.api;
+
+import com.devcourse.be04daangnmarket.common.auth.User;
+import com.devcourse.be04daangnmarket.image.application.ImageUploadService;
+import com.devcourse.be04daangnmarket.image.dto.ImageUploadDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Tag(name = "image", description = "이미지 API")
+@RestController
+@RequestMapping("api/v1/images/uploads")
+public class ImageUploadRestController {
+    private final ImageUploadService imageUploadService;
+
+    public ImageUploadRestController(ImageUploadService imageUploadService) {
+        this.imageUploadService = imageUploadService;
+    }
+
+    @Tag(name = "image")
+    @Operation(description = "[토큰 필요] 이어 올리기가 가능한 이미지 업로드를 시작한다", responses = {
+            @ApiResponse(responseCode = "201", description = "성공적으로 업로드를 시작한 경우"),
+            @ApiResponse(responseCode = "400", description = "파일 크기가 허용 범위를 벗어난 경우")
+    })
+    @PostMapping
+    public ResponseEntity<ImageUploadDto.Status> init(@RequestBody @Valid ImageUploadDto.InitRequest request,
+                                                      @AuthenticationPrincipal User user) {
+        ImageUploadDto.Status response = imageUploadService.init(user.getId(), request.originName(), request.size());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(response);
+    }
+
+    @Tag(name = "image")
+    @Operation(description = "[토큰 필요] 업로드에서 아직 받지 못한 청크를 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 업로드 상태를 조회한 경우"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 업로드인 경우")
+    })
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ImageUploadDto.Status> getStatus(@PathVariable String uploadId,
+                                                           @AuthenticationPrincipal User user) {
+        ImageUploadDto.Status response = imageUploadService.getStatus(user.getId(), uploadId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Tag(name = "image")
+    @Operation(description = "[토큰 필요] 업로드의 지정한 오프셋에 청크를 기록한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 청크를 기록한 경우"),
+            @ApiResponse(responseCode = "400", description = "오프셋이나 청크 크기가 옳지 않은 경우"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 업로드인 경우")
+    })
+    @PutMapping(path = "/{uploadId}/chunks/{offset}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ImageUploadDto.Status> writeChunk(@PathVariable String uploadId,
+                                                            @PathVariable long offset,
+                                                            HttpServletRequest request,
+                                                            @AuthenticationPrincipal User user) throws IOException {
+        ImageUploadDto.Status response = imageUploadService.writeChunk(
+                user.getId(),
+                uploadId,
+                offset,
+                request.getContentLengthLong(),
+                request.getInputStream()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Tag(name = "image")
+    @Operation(description = "[토큰 필요] 모든 청크를 받은 업로드를 이미지로 저장한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 이미지를 저장한 경우"),
+            @ApiResponse(responseCode = "400", description = "받지 못한 청크가 남아 있는 경우"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 업로드인 경우")
+    })
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ImageUploadDto.CompleteResponse> complete(@PathVariable String uploadId,
+                                                                    @AuthenticationPrincipal User user) {
+        ImageUploadDto.CompleteResponse response = imageUploadService.complete(user.getId(), uploadId);
+
+        return ResponseEntity.ok(response);
+    }
+}
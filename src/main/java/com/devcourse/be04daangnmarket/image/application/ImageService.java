@@ -4,36 +4,56 @@ import com.devcourse.be04daangnmarket.common.constant.Status;
 import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
 import com.devcourse.be04daangnmarket.image.domain.Image;
 import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageVariant;
+import com.devcourse.be04daangnmarket.image.dto.ImageStoredEvent;
+import com.devcourse.be04daangnmarket.image.repository.ImagePath;
 import com.devcourse.be04daangnmarket.image.repository.ImageRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.devcourse.be04daangnmarket.image.util.ImageConverter.toEntity;
 
 @Transactional(readOnly = true)
 @Service
 public class ImageService {
-	private static final String RELATIVE_PATH = "images/";
+	static final String RELATIVE_PATH = "images/";
 
 	private final ImageRepository imageRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public ImageService(ImageRepository imageRepository) {
+	public ImageService(ImageRepository imageRepository, ApplicationEventPublisher eventPublisher) {
 		this.imageRepository = imageRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
 	public List<String> save(List<ImageDto.ImageDetail> images, DomainName domainName, Long domainId) {
-		return images.stream()
-               .map(imageDetail -> {
-				   String relativePath = getRelativePath(imageDetail.uniqueName());
-				   Image image = toEntity(imageDetail.originName(), imageDetail.type(), relativePath, domainName, domainId);
-				   imageRepository.save(image);
+		List<Image> entities = images.stream()
+				.map(imageDetail -> toEntity(
+						imageDetail.originName(),
+						imageDetail.type(),
+						getRelativePath(imageDetail.uniqueName()),
+						domainName,
+						domainId))
+				.toList();
+
+		imageRepository.saveAll(entities);
+
+		for (int i = 0; i < entities.size(); i++) {
+			eventPublisher.publishEvent(new ImageStoredEvent(entities.get(i).getId(), images.get(i).uniqueName()));
+		}
 
-                   return relativePath;
-               })
+		return entities.stream()
+				.map(Image::getPath)
 				.toList();
 	}
 
@@ -42,28 +62,37 @@ public class ImageService {
 	}
 
 	public List<String> getImages(DomainName domainName, Long domainId) {
-		List<Image> images = getAllImages(domainName, domainId);
+		return imageRepository.findPathsByDomain(domainName, domainId, Status.ALIVE);
+	}
+
+	public Map<Long, List<String>> getThumbnailsByDomainIds(DomainName domainName, Collection<Long> domainIds) {
+		if (domainIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<ImagePath> images = imageRepository.findPathsByDomainIn(domainName, domainIds, Status.ALIVE);
 
 		return images.stream()
-				.filter(image -> image.getStatus().equals(Status.ALIVE))
-				.map(image -> image.getPath())
-				.toList();
+				.collect(Collectors.groupingBy(
+						ImagePath::domainId,
+						Collectors.mapping(ImagePath::thumbnailOrOriginal, Collectors.toList())
+				));
 	}
 
 	@Transactional
-	public void deleteAllImages(DomainName domainName, Long domainId) {
-		List<Image> images = getAllImages(domainName, domainId);
-
-		if (images.isEmpty()) {
-			return;
-		}
+	public void addVariants(Long imageId, Map<ImageVariant, String> variants) {
+		imageRepository.updateVariants(
+				imageId,
+				toRelativePath(variants.get(ImageVariant.THUMBNAIL)),
+				toRelativePath(variants.get(ImageVariant.MEDIUM)));
+	}
 
-		for (Image image : images) {
-			image.changeStatus();
-		}
+	private String toRelativePath(String fileName) {
+		return fileName == null ? null : getRelativePath(fileName);
 	}
 
-	private List<Image> getAllImages(DomainName domainName, Long domainId) {
-		return imageRepository.findAllByDomainNameAndDomainId(domainName, domainId);
+	@Transactional
+	public void deleteAllImages(DomainName domainName, Long domainId) {
+		imageRepository.updateStatusByDomain(domainName, domainId, Status.DELETED, LocalDateTime.now());
 	}
 }
@@ -0,0 +1,256 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.image.ChunkedUploadStore;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.image.dto.ImageUploadDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.ALREADY_COMPLETED_UPLOAD;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_COMPLETED_UPLOAD;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_CORRECT_UPLOAD_CHUNK;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_CORRECT_UPLOAD_SIZE;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_FOUND_IMAGE;
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_FOUND_UPLOAD;
+
+@Service
+public class ImageUploadService {
+    private static final String SESSION_KEY = "image:upload:%s";
+    private static final String CHUNKS_KEY = "image:upload:%s:chunks";
+    private static final String MEMBER_ID = "memberId";
+    private static final String ORIGIN_NAME = "originName";
+    private static final String SIZE = "size";
+    private static final String CHUNK_SIZE = "chunkSize";
+    private static final String UNIQUE_NAME = "uniqueName";
+    private static final String TYPE = "type";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChunkedUploadStore chunkedUploadStore;
+    private final long chunkSize;
+    private final long maxSize;
+    private final Duration expiry;
+
+    public ImageUploadService(StringRedisTemplate redisTemplate,
+                              ChunkedUploadStore chunkedUploadStore,
+                              @Value("${custom.image.upload.chunked.chunk-size:1MB}") DataSize chunkSize,
+                              @Value("${custom.image.upload.chunked.max-size:20MB}") DataSize maxSize,
+                              @Value("${custom.image.upload.chunked.expiry:24h}") Duration expiry) {
+        this.redisTemplate = redisTemplate;
+        this.chunkedUploadStore = chunkedUploadStore;
+        this.chunkSize = chunkSize.toBytes();
+        this.maxSize = maxSize.toBytes();
+        this.expiry = expiry;
+    }
+
+    public ImageUploadDto.Status init(Long memberId, String originName, long size) {
+        if (size <= 0 || size > maxSize) {
+            throw new IllegalArgumentException(NOT_CORRECT_UPLOAD_SIZE.getMessage());
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        chunkedUploadStore.allocate(uploadId, size);
+
+        String sessionKey = getSessionKey(uploadId);
+        hashOperations().putAll(sessionKey, Map.of(
+                MEMBER_ID, memberId.toString(),
+                ORIGIN_NAME, originName,
+                SIZE, String.valueOf(size),
+                CHUNK_SIZE, String.valueOf(chunkSize)
+        ));
+        redisTemplate.expire(sessionKey, expiry);
+
+        return toStatus(getSession(memberId, uploadId));
+    }
+
+    public ImageUploadDto.Status writeChunk(Long memberId, String uploadId, long offset, long length, InputStream body) {
+        UploadSession session = getSession(memberId, uploadId);
+
+        if (session.isCompleted()) {
+            throw new IllegalStateException(ALREADY_COMPLETED_UPLOAD.getMessage());
+        }
+
+        if (!session.isChunk(offset, length)) {
+            throw new IllegalArgumentException(NOT_CORRECT_UPLOAD_CHUNK.getMessage());
+        }
+
+        chunkedUploadStore.write(uploadId, offset, length, body);
+
+        String chunksKey = getChunksKey(uploadId);
+        redisTemplate.opsForValue().setBit(chunksKey, offset / session.chunkSize(), true);
+        redisTemplate.expire(chunksKey, expiry);
+        redisTemplate.expire(getSessionKey(uploadId), expiry);
+
+        return toStatus(session);
+    }
+
+    public ImageUploadDto.Status getStatus(Long memberId, String uploadId) {
+        return toStatus(getSession(memberId, uploadId));
+    }
+
+    public ImageUploadDto.CompleteResponse complete(Long memberId, String uploadId) {
+        UploadSession session = getSession(memberId, uploadId);
+
+        if (session.isCompleted()) {
+            return toCompleteResponse(session);
+        }
+
+        if (!getMissingOffsets(session).isEmpty()) {
+            throw new IllegalStateException(NOT_COMPLETED_UPLOAD.getMessage());
+        }
+
+        ImageDto.ImageDetail imageDetail = chunkedUploadStore.complete(uploadId, session.originName());
+        String sessionKey = getSessionKey(uploadId);
+        hashOperations().putAll(sessionKey, Map.of(
+                UNIQUE_NAME, imageDetail.uniqueName(),
+                TYPE, imageDetail.type().name()
+        ));
+        redisTemplate.expire(sessionKey, expiry);
+
+        chunkedUploadStore.discard(uploadId);
+        redisTemplate.delete(getChunksKey(uploadId));
+
+        return toCompleteResponse(getSession(memberId, uploadId));
+    }
+
+    public List<ImageDto.ImageDetail> getCompletedImages(Long memberId, List<String> uploadIds) {
+        if (uploadIds == null) {
+            return Collections.emptyList();
+        }
+
+        return uploadIds.stream()
+                .map(uploadId -> getSession(memberId, uploadId))
+                .map(session -> {
+                    if (!session.isCompleted()) {
+                        throw new IllegalStateException(NOT_COMPLETED_UPLOAD.getMessage());
+                    }
+
+                    if (!chunkedUploadStore.exists(session.uniqueName())) {
+                        throw new NoSuchElementException(NOT_FOUND_IMAGE.getMessage());
+                    }
+
+                    return new ImageDto.ImageDetail(session.originName(), session.uniqueName(), session.type());
+                })
+                .toList();
+    }
+
+    private UploadSession getSession(Long memberId, String uploadId) {
+        Map<String, String> entries = hashOperations().entries(getSessionKey(uploadId));
+
+        if (entries.isEmpty() || !entries.get(MEMBER_ID).equals(String.valueOf(memberId))) {
+            throw new NoSuchElementException(NOT_FOUND_UPLOAD.getMessage());
+        }
+
+        String type = entries.get(TYPE);
+
+        return new UploadSession(
+                uploadId,
+                entries.get(ORIGIN_NAME),
+                Long.parseLong(entries.get(SIZE)),
+                Long.parseLong(entries.get(CHUNK_SIZE)),
+                entries.get(UNIQUE_NAME),
+                type == null ? null : Type.valueOf(type)
+        );
+    }
+
+    private List<Long> getMissingOffsets(UploadSession session) {
+        if (session.isCompleted()) {
+            return Collections.emptyList();
+        }
+
+        byte[] key = getChunksKey(session.uploadId()).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+        List<Long> missingOffsets = new ArrayList<>();
+
+        for (long chunk = 0; chunk < session.chunkCount(); chunk++) {
+            if (!isSet(bitmap, chunk)) {
+                missingOffsets.add(chunk * session.chunkSize());
+            }
+        }
+
+        return missingOffsets;
+    }
+
+    private boolean isSet(byte[] bitmap, long bit) {
+        int index = (int) (bit / Byte.SIZE);
+
+        if (bitmap == null || index >= bitmap.length) {
+            return false;
+        }
+
+        return (bitmap[index] & (0x80 >>> (bit % Byte.SIZE))) != 0;
+    }
+
+    private ImageUploadDto.Status toStatus(UploadSession session) {
+        return new ImageUploadDto.Status(
+                session.uploadId(),
+                session.size(),
+                session.chunkSize(),
+                getMissingOffsets(session)
+        );
+    }
+
+    private ImageUploadDto.CompleteResponse toCompleteResponse(UploadSession session) {
+        return new ImageUploadDto.CompleteResponse(
+                session.uploadId(),
+                session.originName(),
+                session.uniqueName(),
+                session.type()
+        );
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String getSessionKey(String uploadId) {
+        return String.format(SESSION_KEY, uploadId);
+    }
+
+    private String getChunksKey(String uploadId) {
+        return String.format(CHUNKS_KEY, uploadId);
+    }
+
+    private record UploadSession(
+            String uploadId,
+
+            String originName,
+
+            long size,
+
+            long chunkSize,
+
+            String uniqueName,
+
+            Type type
+    ) {
+        boolean isCompleted() {
+            return uniqueName != null;
+        }
+
+        long chunkCount() {
+            return (size + chunkSize - 1) / chunkSize;
+        }
+
+        boolean isChunk(long offset, long length) {
+            return offset >= 0
+                    && offset < size
+                    && offset % chunkSize == 0
+                    && length == Math.min(chunkSize, size - offset);
+        }
+    }
+}
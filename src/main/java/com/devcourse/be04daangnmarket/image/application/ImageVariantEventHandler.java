@@ -0,0 +1,27 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.config.AsyncConfig;
+import com.devcourse.be04daangnmarket.image.dto.ImageStoredEvent;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class ImageVariantEventHandler {
+    private final ImageVariantPipeline imageVariantPipeline;
+
+    public ImageVariantEventHandler(ImageVariantPipeline imageVariantPipeline) {
+        this.imageVariantPipeline = imageVariantPipeline;
+    }
+
+    @Async(AsyncConfig.IMAGE_VARIANT_EXECUTOR)
+    @TransactionalEventListener(
+            classes = ImageStoredEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void storedHandle(ImageStoredEvent event) {
+        imageVariantPipeline.generate(event.getImageId(), event.getUniqueName());
+    }
+}
@@ -0,0 +1,51 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.image.ImageIOService;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageVariant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class ImageVariantPipeline {
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantPipeline.class);
+    private static final String METRIC_PREFIX = "image.variant";
+
+    private final ImageIOService imageIOService;
+    private final ImageService imageService;
+    private final Timer processingTimer;
+    private final Counter failures;
+
+    public ImageVariantPipeline(ImageIOService imageIOService,
+                                ImageService imageService,
+                                MeterRegistry meterRegistry) {
+        this.imageIOService = imageIOService;
+        this.imageService = imageService;
+        this.processingTimer = Timer.builder(METRIC_PREFIX + ".processing")
+                .register(meterRegistry);
+        this.failures = Counter.builder(METRIC_PREFIX + ".failures")
+                .register(meterRegistry);
+    }
+
+    public void generate(Long imageId, String uniqueName) {
+        Timer.Sample sample = Timer.start();
+
+        try {
+            Map<ImageVariant, String> variants = imageIOService.createVariants(uniqueName);
+
+            if (!variants.isEmpty()) {
+                imageService.addVariants(imageId, variants);
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to generate image variants. imageId={}, uniqueName={}", imageId, uniqueName, e);
+        } finally {
+            sample.stop(processingTimer);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.config.AsyncConfig;
+import com.devcourse.be04daangnmarket.common.constant.Status;
+import com.devcourse.be04daangnmarket.image.repository.ImageRepository;
+import com.devcourse.be04daangnmarket.image.repository.PendingVariantImage;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@Component
+public class ImageVariantSweeper {
+    private static final String LOCK_KEY = "image:variant-sweep";
+
+    private final ImageRepository imageRepository;
+    private final ImageVariantPipeline imageVariantPipeline;
+    private final Executor imageVariantExecutor;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+    private final Duration minAge;
+    private final Duration maxAge;
+    private long lastId;
+
+    public ImageVariantSweeper(ImageRepository imageRepository,
+                               ImageVariantPipeline imageVariantPipeline,
+                               @Qualifier(AsyncConfig.IMAGE_VARIANT_EXECUTOR) Executor imageVariantExecutor,
+                               RedissonClient redissonClient,
+                               @Value("${custom.image.variant.sweep.batch-size:200}") int batchSize,
+                               @Value("${custom.image.variant.sweep.min-age:5m}") Duration minAge,
+                               @Value("${custom.image.variant.sweep.max-age:24h}") Duration maxAge) {
+        this.imageRepository = imageRepository;
+        this.imageVariantPipeline = imageVariantPipeline;
+        this.imageVariantExecutor = imageVariantExecutor;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    @Scheduled(fixedDelayString = "${custom.image.variant.sweep.interval:60000}")
+    public void sweep() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            requeuePending();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void requeuePending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingVariantImage> batch = imageRepository.findPendingVariants(
+                lastId, Status.ALIVE, now.minus(maxAge), now.minus(minAge), PageRequest.of(0, batchSize));
+
+        for (PendingVariantImage image : batch) {
+            imageVariantExecutor.execute(() -> imageVariantPipeline.generate(image.id(), uniqueNameOf(image.path())));
+        }
+
+        lastId = batch.size() < batchSize ? 0 : batch.get(batch.size() - 1).id();
+    }
+
+    private String uniqueNameOf(String path) {
+        return path.startsWith(ImageService.RELATIVE_PATH) ? path.substring(ImageService.RELATIVE_PATH.length()) : path;
+    }
+}
@@ -0,0 +1,283 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.constant.Status;
+import com.devcourse.be04daangnmarket.common.image.ImageFileLoader;
+import com.devcourse.be04daangnmarket.common.image.ImageStorageLayout;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageVariant;
+import com.devcourse.be04daangnmarket.image.repository.DeletedImage;
+import com.devcourse.be04daangnmarket.image.repository.ImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.devcourse.be04daangnmarket.image.exception.ExceptionMessage.NOT_CORRECT_GC_GRACE_PERIOD;
+
+@Component
+public class OrphanImageCollector {
+    private static final String LOCK_KEY = "image:gc";
+    private static final String METRIC_PREFIX = "image.gc";
+    private static final char VARIANT_SEPARATOR = '_';
+
+    private final ImageRepository imageRepository;
+    private final ImageStorageLayout imageStorageLayout;
+    private final ImageFileLoader imageFileLoader;
+    private final RedissonClient redissonClient;
+    private final ExecutorService ioExecutor;
+    private final int batchSize;
+    private final Duration gracePeriod;
+    private final long batchPauseMillis;
+    private final Counter reclaimedBytes;
+    private final Counter deletedRows;
+    private final Counter deletedFiles;
+    private final Timer rowSweepTimer;
+    private final Timer fileSweepTimer;
+
+    public OrphanImageCollector(ImageRepository imageRepository,
+                                ImageStorageLayout imageStorageLayout,
+                                ImageFileLoader imageFileLoader,
+                                RedissonClient redissonClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${custom.image.gc.io-threads:2}") int ioThreads,
+                                @Value("${custom.image.gc.batch-size:500}") int batchSize,
+                                @Value("${custom.image.gc.grace-period:24h}") Duration gracePeriod,
+                                @Value("${custom.image.gc.batch-pause:200}") long batchPauseMillis,
+                                @Value("${custom.image.upload.chunked.expiry:24h}") Duration uploadExpiry) {
+        if (gracePeriod.compareTo(uploadExpiry) < 0) {
+            throw new IllegalArgumentException(NOT_CORRECT_GC_GRACE_PERIOD.getMessage());
+        }
+
+        this.imageRepository = imageRepository;
+        this.imageStorageLayout = imageStorageLayout;
+        this.imageFileLoader = imageFileLoader;
+        this.redissonClient = redissonClient;
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, new CustomizableThreadFactory("image-gc-"));
+        this.batchSize = batchSize;
+        this.gracePeriod = gracePeriod;
+        this.batchPauseMillis = batchPauseMillis;
+
+        this.reclaimedBytes = Counter.builder(METRIC_PREFIX + ".reclaimed")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.deletedRows = Counter.builder(METRIC_PREFIX + ".deleted.rows")
+                .register(meterRegistry);
+        this.deletedFiles = Counter.builder(METRIC_PREFIX + ".deleted.files")
+                .register(meterRegistry);
+        this.rowSweepTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("phase", "rows")
+                .register(meterRegistry);
+        this.fileSweepTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("phase", "files")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.image.gc.initial-delay:600000}",
+            fixedDelayString = "${custom.image.gc.interval:3600000}"
+    )
+    public void collect() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            rowSweepTimer.record(this::sweepDeletedRows);
+            fileSweepTimer.record(this::reconcileFiles);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void sweepDeletedRows() {
+        LocalDateTime before = LocalDateTime.now().minus(gracePeriod);
+        long lastId = 0;
+        List<DeletedImage> batch;
+
+        do {
+            batch = imageRepository.findDeletedAfter(lastId, Status.DELETED, before, PageRequest.of(0, batchSize));
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            Set<String> paths = batch.stream()
+                    .map(DeletedImage::path)
+                    .collect(Collectors.toSet());
+            Set<String> referenced = new HashSet<>(imageRepository.findReferencedPaths(paths, Status.ALIVE));
+
+            reclaimAll(paths.stream()
+                    .filter(path -> !referenced.contains(path))
+                    .map(this::fileNameOf)
+                    .toList());
+
+            List<Long> ids = batch.stream()
+                    .map(DeletedImage::id)
+                    .toList();
+            imageRepository.deleteAllByIdInBatch(ids);
+            deletedRows.increment(ids.size());
+
+            lastId = batch.get(batch.size() - 1).id();
+            pause();
+        } while (batch.size() == batchSize);
+    }
+
+    void reconcileFiles() {
+        for (Path volume : imageStorageLayout.getVolumes()) {
+            try (Stream<Path> files = imageStorageLayout.files(volume)) {
+                Iterator<Path> iterator = files.iterator();
+                List<Path> originals = new ArrayList<>(batchSize);
+
+                while (iterator.hasNext()) {
+                    Path file = iterator.next();
+
+                    if (isVariant(file)) {
+                        reclaimOrphanVariant(file);
+                        continue;
+                    }
+
+                    originals.add(file);
+
+                    if (originals.size() == batchSize) {
+                        reclaimUnknown(originals);
+                        originals.clear();
+                        pause();
+                    }
+                }
+
+                reclaimUnknown(originals);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void reclaimUnknown(List<Path> originals) {
+        if (originals.isEmpty()) {
+            return;
+        }
+
+        List<String> paths = originals.stream()
+                .map(file -> ImageService.RELATIVE_PATH + file.getFileName())
+                .toList();
+        Set<String> known = new HashSet<>(imageRepository.findKnownPaths(paths));
+
+        reclaimAll(paths.stream()
+                .filter(path -> !known.contains(path))
+                .map(this::fileNameOf)
+                .toList());
+    }
+
+    private void reclaimOrphanVariant(Path variant) throws IOException {
+        String fileName = variant.getFileName().toString();
+        String key = fileName.substring(0, fileName.indexOf(VARIANT_SEPARATOR));
+
+        try (DirectoryStream<Path> originals = Files.newDirectoryStream(variant.getParent(), key + ".*")) {
+            if (!originals.iterator().hasNext() && !isRecent(variant)) {
+                reclaimedBytes.increment(delete(variant));
+            }
+        }
+    }
+
+    private void reclaimAll(List<String> fileNames) {
+        List<CompletableFuture<Long>> reclaims = fileNames.stream()
+                .map(fileName -> CompletableFuture.supplyAsync(() -> reclaim(fileName), ioExecutor))
+                .toList();
+
+        long bytes = reclaims.stream()
+                .mapToLong(CompletableFuture::join)
+                .sum();
+
+        reclaimedBytes.increment(bytes);
+    }
+
+    private long reclaim(String fileName) {
+        Path original = imageStorageLayout.locate(fileName);
+
+        if (Files.exists(original) && isRecent(original)) {
+            return 0;
+        }
+
+        long bytes = delete(original);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            bytes += delete(imageStorageLayout.locate(variant.fileNameOf(fileName)));
+        }
+
+        return bytes;
+    }
+
+    private boolean isRecent(Path file) {
+        try {
+            return Files.getLastModifiedTime(file)
+                    .toInstant()
+                    .isAfter(Instant.now().minus(gracePeriod));
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private long delete(Path file) {
+        try {
+            long size = Files.size(file);
+
+            if (Files.deleteIfExists(file)) {
+                imageFileLoader.evict(file.getFileName().toString());
+                deletedFiles.increment();
+
+                return size;
+            }
+        } catch (IOException ignored) {
+        }
+
+        return 0;
+    }
+
+    private boolean isVariant(Path file) {
+        return file.getFileName().toString().indexOf(VARIANT_SEPARATOR) > 0;
+    }
+
+    private String fileNameOf(String path) {
+        return path.startsWith(ImageService.RELATIVE_PATH) ? path.substring(ImageService.RELATIVE_PATH.length()) : path;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+    }
+}
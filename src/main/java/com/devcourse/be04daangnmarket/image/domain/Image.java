@@ -8,10 +8,14 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "images")
+@Table(name = "images", indexes = {
+        @Index(name = "idx_images_domain_status", columnList = "domainName, domainId, status"),
+        @Index(name = "idx_images_path", columnList = "path")
+})
 public class Image extends BaseEntity {
     @Column(nullable = false)
     private String name;
@@ -23,6 +27,10 @@ public class Image extends BaseEntity {
     @Column(nullable = false)
     private String path;
 
+    private String thumbnailPath;
+
+    private String mediumPath;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Status status;
@@ -58,6 +66,14 @@ public class Image extends BaseEntity {
         return path;
     }
 
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public String getMediumPath() {
+        return mediumPath;
+    }
+
     public Status getStatus() {
         return status;
     }
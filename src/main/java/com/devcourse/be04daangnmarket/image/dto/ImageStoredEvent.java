@@ -0,0 +1,19 @@
+package com.devcourse.be04daangnmarket.image.dto;
+
+public class ImageStoredEvent {
+    private final Long imageId;
+    private final String uniqueName;
+
+    public ImageStoredEvent(Long imageId, String uniqueName) {
+        this.imageId = imageId;
+        this.uniqueName = uniqueName;
+    }
+
+    public Long getImageId() {
+        return imageId;
+    }
+
+    public String getUniqueName() {
+        return uniqueName;
+    }
+}
@@ -0,0 +1,40 @@
+package com.devcourse.be04daangnmarket.image.dto;
+
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+public class ImageUploadDto {
+    public record InitRequest(
+            @NotBlank(message = "파일 이름은 필수 입니다.")
+            String originName,
+
+            @Positive(message = "파일 크기는 양수여야 합니다.")
+            long size
+    ) {
+    }
+
+    public record Status(
+            String uploadId,
+
+            long size,
+
+            long chunkSize,
+
+            List<Long> missingOffsets
+    ) {
+    }
+
+    public record CompleteResponse(
+            String uploadId,
+
+            String originName,
+
+            String uniqueName,
+
+            Type type
+    ) {
+    }
+}
@@ -3,7 +3,16 @@ package com.devcourse.be04daangnmarket.image.exception;
 public enum ExceptionMessage {
     FILE_DELETE_EXCEPTION("파일 삭제에 실패하였습니다."),
     FILE_UPLOAD_EXCEPTION("파일 등록에 실패하였습니다."),
-    NOT_CORRECT_IMAGE_TYPE_EXCEPTION("이미지 타입이 옳지 않습니다.")
+    NOT_CORRECT_IMAGE_TYPE_EXCEPTION("이미지 타입이 옳지 않습니다."),
+    NOT_FOUND_IMAGE("존재하지 않는 이미지입니다."),
+    NOT_CORRECT_IMAGE_WIDTH("이미지 너비가 옳지 않습니다."),
+    NOT_CONFIGURED_IMAGE_VOLUME("이미지 저장 볼륨이 설정되지 않았습니다."),
+    NOT_FOUND_UPLOAD("존재하지 않는 업로드입니다."),
+    NOT_CORRECT_UPLOAD_SIZE("업로드 크기가 옳지 않습니다."),
+    NOT_CORRECT_UPLOAD_CHUNK("업로드 청크 범위가 옳지 않습니다."),
+    NOT_COMPLETED_UPLOAD("아직 완료되지 않은 업로드입니다."),
+    ALREADY_COMPLETED_UPLOAD("이미 완료된 업로드입니다."),
+    NOT_CORRECT_GC_GRACE_PERIOD("이미지 정리 유예 시간은 업로드 만료 시간보다 짧을 수 없습니다.")
     ;
 
     private final String message;
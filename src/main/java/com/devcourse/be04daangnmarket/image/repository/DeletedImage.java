@@ -0,0 +1,8 @@
+package com.devcourse.be04daangnmarket.image.repository;
+
+public record DeletedImage(
+        Long id,
+
+        String path
+) {
+}
@@ -0,0 +1,13 @@
+package com.devcourse.be04daangnmarket.image.repository;
+
+public record ImagePath(
+        Long domainId,
+
+        String path,
+
+        String thumbnailPath
+) {
+    public String thumbnailOrOriginal() {
+        return thumbnailPath == null ? path : thumbnailPath;
+    }
+}
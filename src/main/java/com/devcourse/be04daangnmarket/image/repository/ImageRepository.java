@@ -1,15 +1,69 @@
 package com.devcourse.be04daangnmarket.image.repository;
 
+import com.devcourse.be04daangnmarket.common.constant.Status;
 import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
 import com.devcourse.be04daangnmarket.image.domain.Image;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
     List<Image> findAllByDomainNameAndDomainId(DomainName domainName, Long domainId);
 
+    @Query("SELECT new com.devcourse.be04daangnmarket.image.repository.DeletedImage(i.id, i.path) FROM Image i"
+            + " WHERE i.id > :lastId AND i.status = :status AND i.updatedAt < :before ORDER BY i.id")
+    List<DeletedImage> findDeletedAfter(@Param("lastId") Long lastId,
+                                        @Param("status") Status status,
+                                        @Param("before") LocalDateTime before,
+                                        Pageable pageable);
+
+    @Query("SELECT new com.devcourse.be04daangnmarket.image.repository.PendingVariantImage(i.id, i.path) FROM Image i"
+            + " WHERE i.id > :lastId AND i.status = :status AND i.thumbnailPath IS NULL"
+            + " AND i.createdAt BETWEEN :since AND :before ORDER BY i.id")
+    List<PendingVariantImage> findPendingVariants(@Param("lastId") Long lastId,
+                                                  @Param("status") Status status,
+                                                  @Param("since") LocalDateTime since,
+                                                  @Param("before") LocalDateTime before,
+                                                  Pageable pageable);
+
+    @Query("SELECT DISTINCT i.path FROM Image i WHERE i.path IN :paths AND i.status = :status")
+    List<String> findReferencedPaths(@Param("paths") Collection<String> paths, @Param("status") Status status);
+
+    @Query("SELECT DISTINCT i.path FROM Image i WHERE i.path IN :paths")
+    List<String> findKnownPaths(@Param("paths") Collection<String> paths);
+
+    @Query("SELECT i.path FROM Image i"
+            + " WHERE i.domainName = :domainName AND i.domainId = :domainId AND i.status = :status ORDER BY i.id")
+    List<String> findPathsByDomain(@Param("domainName") DomainName domainName,
+                                   @Param("domainId") Long domainId,
+                                   @Param("status") Status status);
+
+    @Query("SELECT new com.devcourse.be04daangnmarket.image.repository.ImagePath(i.domainId, i.path, i.thumbnailPath) FROM Image i"
+            + " WHERE i.domainName = :domainName AND i.domainId IN :domainIds AND i.status = :status ORDER BY i.id")
+    List<ImagePath> findPathsByDomainIn(@Param("domainName") DomainName domainName,
+                                        @Param("domainIds") Collection<Long> domainIds,
+                                        @Param("status") Status status);
+
+    @Modifying
+    @Query("UPDATE Image i SET i.thumbnailPath = :thumbnailPath, i.mediumPath = :mediumPath WHERE i.id = :id")
+    int updateVariants(@Param("id") Long id,
+                       @Param("thumbnailPath") String thumbnailPath,
+                       @Param("mediumPath") String mediumPath);
+
     @Modifying(clearAutomatically = true)
     void deleteAllByDomainNameAndDomainId(DomainName domainName, Long domainId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Image i SET i.status = :status, i.updatedAt = :updatedAt"
+            + " WHERE i.domainName = :domainName AND i.domainId = :domainId AND i.status <> :status")
+    int updateStatusByDomain(@Param("domainName") DomainName domainName,
+                             @Param("domainId") Long domainId,
+                             @Param("status") Status status,
+                             @Param("updatedAt") LocalDateTime updatedAt);
 }
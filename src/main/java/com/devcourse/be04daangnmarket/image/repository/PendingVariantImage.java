@@ -0,0 +1,8 @@
+package com.devcourse.be04daangnmarket.image.repository;
+
+public record PendingVariantImage(
+        Long id,
+
+        String path
+) {
+}
@@ -1,6 +1,7 @@
 package com.devcourse.be04daangnmarket.member.api;
 
 import com.devcourse.be04daangnmarket.common.auth.User;
+import com.devcourse.be04daangnmarket.common.http.ConditionalGet;
 import com.devcourse.be04daangnmarket.member.application.MemberService;
 import com.devcourse.be04daangnmarket.member.application.ProfileService;
 import com.devcourse.be04daangnmarket.member.dto.ProfileDto;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/members")
@@ -37,7 +40,11 @@ public class MemberRestController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProfileDto.Response> getProfile(@PathVariable Long id) {
+    public ResponseEntity<ProfileDto.Response> getProfile(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, id, profileService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         ProfileDto.Response response = profileService.toProfile(id);
 
         return ResponseEntity.ok(response);
@@ -48,23 +55,39 @@ public class MemberRestController {
                                                             @PathVariable Long id,
                                                             @RequestBody @Valid ProfileDto.UpdateRequest request) {
         memberService.validateById(id, user.getId());
-        ProfileDto.Response response = profileService.update(id, request.username());
+        ProfileDto.Response response = profileService.update(id, request.username(), request.region());
 
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}/sale")
-    public ResponseEntity<Page<PostDto.Response>> getSaleList(@PathVariable Long id, @RequestParam(defaultValue = "0") int page) {
+    public ResponseEntity<Page<PostDto.Summary>> getSaleList(@PathVariable Long id, @RequestParam(defaultValue = "0") int page) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id").descending());
-        Page<PostDto.Response> saleList = postService.getPostByMemberId(id, pageable);
+        Page<PostDto.Summary> saleList = postService.getPostByMemberId(id, pageable);
+
+        return ResponseEntity.ok(saleList);
+    }
+
+    @GetMapping("/{id}/sale/cursor")
+    public ResponseEntity<PostDto.CursorResponse> getSaleListWithCursor(@PathVariable Long id, @RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        PostDto.CursorResponse saleList = postService.getPostsWithKeyset(cursor, null, id, null, null, pageable);
 
         return ResponseEntity.ok(saleList);
     }
 
     @GetMapping("/{id}/purchase")
-    public ResponseEntity<Page<PostDto.Response>> getPurchaseList(@PathVariable Long id, @RequestParam(defaultValue = "0") int page) {
+    public ResponseEntity<Page<PostDto.Summary>> getPurchaseList(@PathVariable Long id, @RequestParam(defaultValue = "0") int page) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id").descending());
-        Page<PostDto.Response> purchaseList = postService.getPostByBuyerId(id, pageable);
+        Page<PostDto.Summary> purchaseList = postService.getPostByBuyerId(id, pageable);
+
+        return ResponseEntity.ok(purchaseList);
+    }
+
+    @GetMapping("/{id}/purchase/cursor")
+    public ResponseEntity<PostDto.CursorResponse> getPurchaseListWithCursor(@PathVariable Long id, @RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        PostDto.CursorResponse purchaseList = postService.getPostsWithKeyset(cursor, null, null, id, null, pageable);
 
         return ResponseEntity.ok(purchaseList);
     }
@@ -50,4 +50,14 @@ public class ReviewRestController {
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/members/{id}/review/cursor")
+    public ResponseEntity<ReviewDto.CursorResponse> getAllByMemberWithCursor(@PathVariable @NotNull Long id,
+                                                                             @RequestParam(required = false) WriterRole role,
+                                                                             @RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending());
+        ReviewDto.CursorResponse response = reviewService.getAllByMemberWithCursor(id, role, cursor, pageable);
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,13 +1,22 @@
 package com.devcourse.be04daangnmarket.member.application;
 
+import com.devcourse.be04daangnmarket.common.cache.SingleFlight;
 import com.devcourse.be04daangnmarket.member.domain.Profile;
 import com.devcourse.be04daangnmarket.member.dto.ProfileDto;
+import com.devcourse.be04daangnmarket.member.dto.ProfileRegionChangedEvent;
 import com.devcourse.be04daangnmarket.member.repository.ProfileRepository;
 import com.devcourse.be04daangnmarket.member.util.ProfileConverter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static com.devcourse.be04daangnmarket.member.exception.ErrorMessage.DUPLICATED_USERNAME;
 import static com.devcourse.be04daangnmarket.member.exception.ErrorMessage.NOT_FOUND_PROFILE;
@@ -16,9 +25,12 @@ import static com.devcourse.be04daangnmarket.member.exception.ErrorMessage.NOT_F
 @Transactional
 public class ProfileService {
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<Long, ProfileDto.Response> profileLoads = new SingleFlight<>();
 
-    public ProfileService(ProfileRepository profileRepository) {
+    public ProfileService(ProfileRepository profileRepository, ApplicationEventPublisher eventPublisher) {
         this.profileRepository = profileRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void create(Long memberId, String username, String region) {
@@ -33,22 +45,55 @@ public class ProfileService {
         profileRepository.save(profile);
     }
 
-    public ProfileDto.Response update(Long id, String username) {
+    public ProfileDto.Response update(Long id, String username, String region) {
         Profile profile = getOne(id);
 
-        if (isAvailableUsername(username)) {
+        if (!Objects.equals(profile.getUsername(), username)) {
+            if (!isAvailableUsername(username)) {
+                throw new IllegalArgumentException(DUPLICATED_USERNAME.getMessage());
+            }
+
             profile.updateProfile(username);
+        }
+
+        updateRegion(profile, region);
 
-            return ProfileConverter.toResponse(profile);
+        return ProfileConverter.toResponse(profile);
+    }
+
+    private void updateRegion(Profile profile, String region) {
+        if (region == null || Objects.equals(profile.getRegion(), region)) {
+            return;
         }
 
-        throw new IllegalArgumentException(DUPLICATED_USERNAME.getMessage());
+        String previousRegion = profile.getRegion();
+        profile.updateRegion(region);
+        eventPublisher.publishEvent(new ProfileRegionChangedEvent(profile.getMemberId(), previousRegion, region));
     }
 
     public ProfileDto.Response toProfile(Long id) {
-        Profile profile = getOne(id);
+        return profileLoads.load(id, () -> ProfileConverter.toResponse(getOne(id)));
+    }
 
-        return ProfileConverter.toResponse(profile);
+    public Map<Long, String> getUsernames(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, String> usernames = profileRepository.findAllByMemberIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Profile::getMemberId, Profile::getUsername));
+
+        if (!usernames.keySet().containsAll(memberIds)) {
+            throw new NoSuchElementException(NOT_FOUND_PROFILE.getMessage());
+        }
+
+        return usernames;
+    }
+
+    @Transactional(readOnly = true)
+    public LocalDateTime getLastModified(Long memberId) {
+        return profileRepository.findUpdatedAtByMemberId(memberId)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_PROFILE.getMessage()));
     }
 
     public Profile getOne(Long memberId) {
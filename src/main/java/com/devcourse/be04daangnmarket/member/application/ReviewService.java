@@ -1,5 +1,7 @@
 package com.devcourse.be04daangnmarket.member.application;
 
+import com.devcourse.be04daangnmarket.common.cursor.CursorCodec;
+import com.devcourse.be04daangnmarket.common.cursor.KeysetQuery;
 import com.devcourse.be04daangnmarket.member.domain.Review;
 import com.devcourse.be04daangnmarket.member.domain.Review.WriterRole;
 import com.devcourse.be04daangnmarket.member.dto.ReviewDto;
@@ -9,7 +11,10 @@ import com.devcourse.be04daangnmarket.member.util.ReviewSpecification;
 import com.devcourse.be04daangnmarket.post.application.PostService;
 import com.devcourse.be04daangnmarket.post.domain.Post;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,10 +30,12 @@ import static com.devcourse.be04daangnmarket.member.exception.ErrorMessage.NOT_C
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final PostService postService;
+    private final CursorCodec cursorCodec;
 
-    public ReviewService(ReviewRepository reviewRepository, PostService postService) {
+    public ReviewService(ReviewRepository reviewRepository, PostService postService, CursorCodec cursorCodec) {
         this.reviewRepository = reviewRepository;
         this.postService = postService;
+        this.cursorCodec = cursorCodec;
     }
 
     public ReviewDto.Response create(Long authUserId, Long postId, String content) {
@@ -48,6 +55,23 @@ public class ReviewService {
                 .map(ReviewConverter::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public ReviewDto.CursorResponse getAllByMemberWithCursor(Long ownerId, WriterRole role, String cursor, Pageable pageable) {
+        Specification<Review> specification = ReviewSpecification.findWith(ownerId, role);
+        Sort sort = KeysetQuery.withTieBreaker(pageable.getSort(), ReviewRepository.SORTABLE_PROPERTIES);
+        Pageable cursorPageable = PageRequest.of(0, pageable.getPageSize(), sort);
+
+        Slice<Review> reviews = reviewRepository.findAllWithCursor(
+                specification,
+                cursorCodec.decode(sort, cursor),
+                cursorPageable);
+
+        return new ReviewDto.CursorResponse(
+                reviews.map(ReviewConverter::toResponse),
+                cursorCodec.nextCursor(reviews, sort)
+        );
+    }
+
     private Review getOne(Long authUserId, Post post, String content) {
         Long sellerId = post.getMemberId();
         Long buyerId = post.getBuyerId();
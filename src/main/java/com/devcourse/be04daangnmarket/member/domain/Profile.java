@@ -51,4 +51,8 @@ public class Profile extends BaseEntity {
     public void updateProfile(String username) {
         this.username = username;
     }
+
+    public void updateRegion(String region) {
+        this.region = region;
+    }
 }
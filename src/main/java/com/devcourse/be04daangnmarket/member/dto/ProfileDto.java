@@ -7,7 +7,9 @@ import java.time.LocalDateTime;
 public class ProfileDto {
     public record UpdateRequest(
             @NotBlank(message = "닉네임은 필수로 입력하여야 합니다.")
-            String username
+            String username,
+
+            String region
     ) {
     }
 
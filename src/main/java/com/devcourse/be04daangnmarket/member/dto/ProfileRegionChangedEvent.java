@@ -0,0 +1,25 @@
+package com.devcourse.be04daangnmarket.member.dto;
+
+public class ProfileRegionChangedEvent {
+    private final Long memberId;
+    private final String previousRegion;
+    private final String region;
+
+    public ProfileRegionChangedEvent(Long memberId, String previousRegion, String region) {
+        this.memberId = memberId;
+        this.previousRegion = previousRegion;
+        this.region = region;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getPreviousRegion() {
+        return previousRegion;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+}
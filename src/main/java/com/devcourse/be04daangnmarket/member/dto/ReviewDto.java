@@ -2,6 +2,7 @@ package com.devcourse.be04daangnmarket.member.dto;
 
 import com.devcourse.be04daangnmarket.member.domain.Review.WriterRole;
 import org.apache.logging.log4j.core.config.plugins.validation.constraints.NotBlank;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 
@@ -30,4 +31,11 @@ public class ReviewDto {
             LocalDateTime updatedAt
     ) {
     }
+
+    public record CursorResponse(
+            Slice<Response> reviews,
+
+            String nextCursor
+    ) {
+    }
 }
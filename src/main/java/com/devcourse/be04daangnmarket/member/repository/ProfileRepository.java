@@ -2,13 +2,23 @@ package com.devcourse.be04daangnmarket.member.repository;
 
 import com.devcourse.be04daangnmarket.member.domain.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Optional<Profile> findByMemberId(Long memberId);
 
+    @Query("SELECT p.updatedAt FROM Profile p WHERE p.memberId = :memberId")
+    Optional<LocalDateTime> findUpdatedAtByMemberId(@Param("memberId") Long memberId);
+
     Optional<Profile> findByUsername(String username);
+
+    List<Profile> findAllByMemberIdIn(Collection<Long> memberIds);
 }
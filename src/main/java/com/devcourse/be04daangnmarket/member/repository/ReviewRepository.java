@@ -10,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewWithCursorRepository {
     Page<Review> findAll(Specification<Review> specification, Pageable pageable);
 
     Optional<Review> findByWriterIdAndPostId(Long writerId, Long postId);
@@ -0,0 +1,15 @@
+package com.devcourse.be04daangnmarket.member.repository;
+
+import com.devcourse.be04daangnmarket.member.domain.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ReviewWithCursorRepository {
+    Set<String> SORTABLE_PROPERTIES = Set.of("createdAt");
+
+    Slice<Review> findAllWithCursor(Specification<Review> specification, List<String> cursorValues, Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.devcourse.be04daangnmarket.member.repository;
+
+import com.devcourse.be04daangnmarket.common.cursor.KeysetQuery;
+import com.devcourse.be04daangnmarket.member.domain.Review;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class ReviewWithCursorRepositoryImpl implements ReviewWithCursorRepository {
+    private final EntityManager em;
+
+    public ReviewWithCursorRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public Slice<Review> findAllWithCursor(Specification<Review> specification, List<String> cursorValues, Pageable pageable) {
+        return KeysetQuery.findAll(em, Review.class, specification, cursorValues, pageable, SORTABLE_PROPERTIES);
+    }
+}
@@ -3,8 +3,10 @@ package com.devcourse.be04daangnmarket.post.api;
 import com.devcourse.be04daangnmarket.comment.application.CommentProviderService;
 import com.devcourse.be04daangnmarket.comment.dto.CommentDto;
 import com.devcourse.be04daangnmarket.common.auth.User;
+import com.devcourse.be04daangnmarket.common.http.ConditionalGet;
 import com.devcourse.be04daangnmarket.common.image.ImageIOService;
 import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.image.application.ImageUploadService;
 import com.devcourse.be04daangnmarket.member.dto.ProfileDto;
 
 import com.devcourse.be04daangnmarket.post.application.PostService;
@@ -24,8 +26,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "post", description = "게시글 API")
@@ -37,22 +39,29 @@ public class PostRestController {
     private final PostService postService;
     private final CommentProviderService commentService;
     private final ImageIOService imageIOService;
+    private final ImageUploadService imageUploadService;
 
-    public PostRestController(PostService postService, CommentProviderService commentService, ImageIOService imageIOService) {
+    public PostRestController(PostService postService,
+                              CommentProviderService commentService,
+                              ImageIOService imageIOService,
+                              ImageUploadService imageUploadService) {
         this.postService = postService;
         this.commentService = commentService;
         this.imageIOService = imageIOService;
+        this.imageUploadService = imageUploadService;
     }
 
     @Tag(name = "post")
     @Operation(description = "[토큰 필요] 유저가 게시글을 생성한다", responses = {
             @ApiResponse(responseCode = "201", description = "성공적으로 게시글을 생성한 경우"),
+            @ApiResponse(responseCode = "400", description = "완료되지 않은 업로드를 첨부한 경우"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 업로드를 첨부한 경우"),
             @ApiResponse(responseCode = "500", description = "토큰을 넣지 않은 경우")
     })
-    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<PostDto.Response> createPost(@Valid PostDto.CreateRequest request,
-                                                       @AuthenticationPrincipal User user) throws IOException {
-        List<ImageDto.ImageDetail> imageDetails = imageIOService.uploadImages(request.files());
+    @PostMapping
+    public ResponseEntity<PostDto.Response> createPost(@RequestBody @Valid PostDto.CreateRequest request,
+                                                       @AuthenticationPrincipal User user) {
+        List<ImageDto.ImageDetail> imageDetails = imageUploadService.getCompletedImages(user.getId(), request.uploadIds());
 
         PostDto.Response response = postService.create(
                 user.getId(),
@@ -75,7 +84,12 @@ public class PostRestController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<PostDto.Response> getPost(@PathVariable @NotNull Long id,
-                                                    @AuthenticationPrincipal User user) {
+                                                    @AuthenticationPrincipal User user,
+                                                    WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, id, postService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         PostDto.Response response = postService.getPost(id, user.getId());
 
         return ResponseEntity.ok(response);
@@ -86,9 +100,36 @@ public class PostRestController {
             @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 조회한 경우")
     })
     @GetMapping
-    public ResponseEntity<Page<PostDto.Response>> getAllPost(@RequestParam(defaultValue = "0") int page) {
+    public ResponseEntity<Page<PostDto.Summary>> getAllPost(@RequestParam(defaultValue = "0") int page) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id").descending());
-        Page<PostDto.Response> responses = postService.getAllPost(pageable);
+        Page<PostDto.Summary> responses = postService.getAllPost(pageable);
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @Tag(name = "post")
+    @Operation(description = "[토큰 필요] 유저가 자신의 동네 게시글을 최신 끌어올림 순으로 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 조회한 경우"),
+            @ApiResponse(responseCode = "400", description = "동네 정보가 설정되지 않은 경우")
+    })
+    @GetMapping("/neighborhood")
+    public ResponseEntity<Page<PostDto.Summary>> getNeighborhoodPosts(@RequestParam(defaultValue = "0") int page,
+                                                                      @AuthenticationPrincipal User user) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        Page<PostDto.Summary> responses = postService.getNeighborhoodPosts(user.getId(), pageable);
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @Tag(name = "post")
+    @Operation(description = "유저가 커서 기반으로 게시글을 전체 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 조회한 경우"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서로 조회한 경우")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<PostDto.CursorResponse> getAllPostWithCursor(@RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        PostDto.CursorResponse responses = postService.getPostsWithKeyset(cursor, null, null, null, null, pageable);
 
         return ResponseEntity.ok(responses);
     }
@@ -98,9 +139,9 @@ public class PostRestController {
             @ApiResponse(responseCode = "200", description = "성공적으로 다중 필터를 적용해 게시글을 전체 조회한 경우")
     })
     @GetMapping("/filter")
-    public ResponseEntity<Slice<PostDto.Response>> getPostsWithCursorWithFilters(PostDto.FilterRequest request,
-                                                                                 @PageableDefault(sort = "price", direction = Sort.Direction.DESC) Pageable pageable) {
-        Slice<PostDto.Response> responses = postService.getPostsWithCursorWithFilters(request, pageable);
+    public ResponseEntity<PostDto.CursorResponse> getPostsWithCursorWithFilters(PostDto.FilterRequest request,
+                                                                                @PageableDefault(sort = "price", direction = Sort.Direction.DESC) Pageable pageable) {
+        PostDto.CursorResponse responses = postService.getPostsWithCursorWithFilters(request, pageable);
 
         return ResponseEntity.ok(responses);
     }
@@ -110,10 +151,24 @@ public class PostRestController {
             @ApiResponse(responseCode = "200", description = "성공적으로 카테고리별 게시글을 조회한 경우")
     })
     @GetMapping("/category")
-    public ResponseEntity<Page<PostDto.Response>> getPostByCategory(@RequestParam @NotNull Category category,
+    public ResponseEntity<Page<PostDto.Summary>> getPostByCategory(@RequestParam @NotNull Category category,
                                                                     @RequestParam(defaultValue = "0") int page) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id").descending());
-        Page<PostDto.Response> response = postService.getPostByCategory(category, pageable);
+        Page<PostDto.Summary> response = postService.getPostByCategory(category, pageable);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Tag(name = "post")
+    @Operation(description = "유저가 커서 기반으로 카테고리별 게시글을 전체 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 카테고리별 게시글을 조회한 경우"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서로 조회한 경우")
+    })
+    @GetMapping("/category/cursor")
+    public ResponseEntity<PostDto.CursorResponse> getPostByCategoryWithCursor(@RequestParam @NotNull Category category,
+                                                                              @RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        PostDto.CursorResponse response = postService.getPostsWithKeyset(cursor, category, null, null, null, pageable);
 
         return ResponseEntity.ok(response);
     }
@@ -123,10 +178,24 @@ public class PostRestController {
             @ApiResponse(responseCode = "200", description = "성공적으로 판매자가 작성한 게시글을 전체 조회한 경우")
     })
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<Page<PostDto.Response>> getPostByMemberId(@PathVariable @NotNull Long memberId,
+    public ResponseEntity<Page<PostDto.Summary>> getPostByMemberId(@PathVariable @NotNull Long memberId,
                                                                     @RequestParam(defaultValue = "0") int page) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id").descending());
-        Page<PostDto.Response> response = postService.getPostByMemberId(memberId, pageable);
+        Page<PostDto.Summary> response = postService.getPostByMemberId(memberId, pageable);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Tag(name = "post")
+    @Operation(description = "유저는 커서 기반으로 판매자가 작성한 게시글을 전체 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 판매자가 작성한 게시글을 전체 조회한 경우"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서로 조회한 경우")
+    })
+    @GetMapping("/member/{memberId}/cursor")
+    public ResponseEntity<PostDto.CursorResponse> getPostByMemberIdWithCursor(@PathVariable @NotNull Long memberId,
+                                                                              @RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        PostDto.CursorResponse response = postService.getPostsWithKeyset(cursor, null, memberId, null, null, pageable);
 
         return ResponseEntity.ok(response);
     }
@@ -136,10 +205,49 @@ public class PostRestController {
             @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 조회한 경우")
     })
     @GetMapping("/search")
-    public ResponseEntity<Page<PostDto.Response>> getPostByKeyword(@RequestParam @NotBlank String keyword,
+    public ResponseEntity<Page<PostDto.Summary>> getPostByKeyword(@RequestParam @NotBlank String keyword,
                                                                    @RequestParam(defaultValue = "0") int page) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id").descending());
-        Page<PostDto.Response> response = postService.getPostByKeyword(keyword, pageable);
+        Page<PostDto.Summary> response = postService.getPostByKeyword(keyword, pageable);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Tag(name = "post")
+    @Operation(description = "유저가 입력 중인 검색어의 자동완성 키워드를 조회한다. 초성 검색을 지원한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 자동완성 키워드를 조회한 경우")
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> suggestKeywords(@RequestParam @NotBlank String keyword,
+                                                        @RequestParam(defaultValue = "10") int limit) {
+        List<String> response = postService.suggestKeywords(keyword, limit);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Tag(name = "post")
+    @Operation(description = "유저가 키워드로 게시글을 검색해서 관련도 순으로 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 조회한 경우")
+    })
+    @GetMapping("/search/ranked")
+    public ResponseEntity<Page<PostDto.Summary>> searchPosts(@RequestParam @NotBlank String keyword,
+                                                             @RequestParam(defaultValue = "0") int page) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        Page<PostDto.Summary> response = postService.searchPosts(keyword, pageable);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Tag(name = "post")
+    @Operation(description = "유저가 커서 기반으로 키워드로 게시글을 검색해서 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글을 조회한 경우"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서로 조회한 경우")
+    })
+    @GetMapping("/search/cursor")
+    public ResponseEntity<PostDto.CursorResponse> getPostByKeywordWithCursor(@RequestParam @NotBlank String keyword,
+                                                                             @RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        PostDto.CursorResponse response = postService.getPostsWithKeyset(cursor, null, null, null, keyword, pageable);
 
         return ResponseEntity.ok(response);
     }
@@ -215,6 +323,20 @@ public class PostRestController {
         return ResponseEntity.ok(response);
     }
 
+    @Tag(name = "post")
+    @Operation(description = "유저가 커서 기반으로 게시글의 댓글을 조회한다", responses = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 게시글의 댓글을 조회하는 경우"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서로 조회한 경우")
+    })
+    @GetMapping("/{id}/comments/cursor")
+    public ResponseEntity<CommentDto.CursorResponse> getPostCommentsWithCursor(@PathVariable Long id,
+                                                                               @RequestParam(required = false) String cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending());
+        CommentDto.CursorResponse response = commentService.getPostCommentsWithCursor(id, cursor, pageable);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Tag(name = "post")
     @Operation(description = "판매자가 게시글에 대한 댓글 작성자를 조회한다", responses = {
             @ApiResponse(responseCode = "200", description = "성공적으로 게시글에 대한 댓글 작성자를 조회한 경우")
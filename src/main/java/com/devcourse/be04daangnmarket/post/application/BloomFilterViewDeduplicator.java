@@ -0,0 +1,84 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "custom.post.views.dedup.strategy", havingValue = "bloom", matchIfMissing = true)
+public class BloomFilterViewDeduplicator implements ViewDeduplicator {
+    private static final String VIEWED_KEY = "post:viewed:bloom:%s:%s";
+    private static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            local added = 0
+            for i = 2, #ARGV do
+                if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then
+                    added = 1
+                end
+            end
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return added
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilterViewDeduplicator(StringRedisTemplate redisTemplate,
+                                       @Value("${custom.post.views.dedup.window:24h}") Duration window,
+                                       @Value("${custom.post.views.dedup.expected-insertions:1000}") long expectedInsertions,
+                                       @Value("${custom.post.views.dedup.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.bitSize = optimalBitSize(expectedInsertions, falsePositiveProbability);
+        this.hashCount = optimalHashCount(expectedInsertions, bitSize);
+    }
+
+    @Override
+    public boolean isFirstView(Long postId, Long userId) {
+        long bucket = System.currentTimeMillis() / window.toMillis();
+        String key = String.format(VIEWED_KEY, userId, bucket);
+
+        Long added = redisTemplate.execute(ADD_SCRIPT, List.of(key), getArgs(postId));
+
+        return added != null && added > 0;
+    }
+
+    private Object[] getArgs(Long postId) {
+        Object[] args = new Object[hashCount + 1];
+        args[0] = String.valueOf(window.toSeconds() * 2);
+
+        long hash1 = mix(postId);
+        long hash2 = mix(hash1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long combined = hash1 + i * hash2;
+            args[i + 1] = String.valueOf(Math.floorMod(combined, bitSize));
+        }
+
+        return args;
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+
+    static long optimalBitSize(long expectedInsertions, double falsePositiveProbability) {
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+    }
+
+    static int optimalHashCount(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "custom.post.views.dedup.strategy", havingValue = "hyperloglog")
+public class HyperLogLogViewDeduplicator implements ViewDeduplicator {
+    private static final String VIEWERS_KEY = "post:viewers:hll:%s:%s";
+    private static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            local changed = redis.call('PFADD', KEYS[1], ARGV[2])
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return changed
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+
+    public HyperLogLogViewDeduplicator(StringRedisTemplate redisTemplate,
+                                       @Value("${custom.post.views.dedup.window:24h}") Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    // PFADD는 레지스터가 바뀔 때만 1을 반환하므로 고유 조회자가 늘수록 처음 보는 사용자도 중복으로 판정될 수 있다
+    @Override
+    public boolean isFirstView(Long postId, Long userId) {
+        Long changed = redisTemplate.execute(
+                ADD_SCRIPT,
+                List.of(getKey(postId)),
+                String.valueOf(window.toSeconds() * 2),
+                userId.toString()
+        );
+
+        return changed != null && changed > 0;
+    }
+
+    public long countViewers(Long postId) {
+        return redisTemplate.opsForHyperLogLog().size(getKey(postId));
+    }
+
+    private String getKey(Long postId) {
+        long bucket = System.currentTimeMillis() / window.toMillis();
+
+        return String.format(VIEWERS_KEY, postId, bucket);
+    }
+}
@@ -0,0 +1,278 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.common.constant.Status;
+import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import com.devcourse.be04daangnmarket.post.repository.PostTitleDocument;
+import com.devcourse.be04daangnmarket.post.util.BigramTokenizer;
+import com.devcourse.be04daangnmarket.post.util.ChosungConverter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class PostAutocompleteIndex {
+    public static final int SUGGESTION_CAPACITY = 10;
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final int POST_WEIGHT = 1;
+    private static final int VIEW_WEIGHT = 1;
+    private static final int SEARCH_WEIGHT = 5;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final Map<Long, IndexedTitle> titles = new HashMap<>();
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> pendingSearches = new ConcurrentHashMap<>();
+    private long[] weights = new long[64];
+    private boolean stale;
+    private SuggestionTrie keywordTrie = newTrie();
+    private SuggestionTrie chosungTrie = newTrie();
+
+    public PostAutocompleteIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+
+        long lastId = 0;
+        List<PostTitleDocument> batch;
+
+        do {
+            batch = postRepository.findTitleDocuments(lastId, Status.ALIVE, PageRequest.of(0, REBUILD_BATCH_SIZE));
+
+            for (PostTitleDocument document : batch) {
+                index(document.id(), document.title(), POST_WEIGHT + document.views());
+                lastId = document.id();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    public void index(Long postId, String title) {
+        index(postId, title, POST_WEIGHT);
+    }
+
+    void index(Long postId, String title, long weight) {
+        lock.writeLock().lock();
+        try {
+            IndexedTitle previous = titles.get(postId);
+
+            if (previous == null) {
+                titles.put(postId, new IndexedTitle(title, weight));
+                increase(keywords(title), weight);
+
+                return;
+            }
+
+            if (!previous.title().equals(title)) {
+                decrease(keywords(previous.title()), previous.weight());
+                titles.put(postId, new IndexedTitle(title, previous.weight()));
+                increase(keywords(title), previous.weight());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        pendingViews.remove(postId);
+
+        lock.writeLock().lock();
+        try {
+            IndexedTitle removed = titles.remove(postId);
+
+            if (removed != null) {
+                decrease(keywords(removed.title()), removed.weight());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void recordView(Long postId) {
+        pendingViews.computeIfAbsent(postId, key -> new LongAdder()).increment();
+    }
+
+    public void recordSearch(String keyword) {
+        for (String word : BigramTokenizer.words(keyword)) {
+            pendingSearches.computeIfAbsent(word, key -> new LongAdder()).increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.post.autocomplete.flush-interval:5000}")
+    public void flush() {
+        Map<Long, Long> views = drain(pendingViews);
+        Map<String, Long> searches = drain(pendingSearches);
+
+        lock.writeLock().lock();
+        try {
+            views.forEach((postId, count) -> {
+                IndexedTitle indexed = titles.get(postId);
+
+                if (indexed != null) {
+                    long weight = count * VIEW_WEIGHT;
+                    titles.put(postId, new IndexedTitle(indexed.title(), indexed.weight() + weight));
+                    increase(keywords(indexed.title()), weight);
+                }
+            });
+
+            searches.forEach((word, count) -> {
+                Integer termId = termIds.get(word);
+
+                if (termId != null) {
+                    increase(termId, count * SEARCH_WEIGHT);
+                }
+            });
+
+            if (stale) {
+                rebuildTries();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        List<String> words = BigramTokenizer.words(prefix);
+
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        String keyword = words.get(words.size() - 1);
+
+        lock.readLock().lock();
+        try {
+            int[] top = ChosungConverter.containsChosung(keyword)
+                    ? chosungTrie.find(ChosungConverter.toChosung(keyword))
+                    : keywordTrie.find(keyword);
+
+            return Arrays.stream(top)
+                    .filter(termId -> weights[termId] > 0)
+                    .limit(limit)
+                    .mapToObj(terms::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> keywords(String title) {
+        return BigramTokenizer.words(title)
+                .stream()
+                .filter(word -> word.length() >= MIN_KEYWORD_LENGTH)
+                .distinct()
+                .toList();
+    }
+
+    private void increase(List<String> keywords, long weight) {
+        keywords.forEach(keyword -> increase(termIds.computeIfAbsent(keyword, this::register), weight));
+    }
+
+    private void decrease(List<String> keywords, long weight) {
+        for (String keyword : keywords) {
+            Integer termId = termIds.get(keyword);
+
+            if (termId != null) {
+                weights[termId] -= weight;
+            }
+        }
+
+        stale = true;
+    }
+
+    private int register(String keyword) {
+        int termId = terms.size();
+        terms.add(keyword);
+
+        if (termId == weights.length) {
+            weights = Arrays.copyOf(weights, weights.length * 2);
+        }
+
+        return termId;
+    }
+
+    private void increase(int termId, long weight) {
+        weights[termId] += weight;
+        offer(termId);
+    }
+
+    private void offer(int termId) {
+        String keyword = terms.get(termId);
+
+        keywordTrie.offer(keyword, termId);
+        chosungTrie.offer(ChosungConverter.toChosung(keyword), termId);
+    }
+
+    private void rebuildTries() {
+        keywordTrie = newTrie();
+        chosungTrie = newTrie();
+
+        for (int termId = 0; termId < terms.size(); termId++) {
+            if (weights[termId] > 0) {
+                offer(termId);
+            }
+        }
+
+        stale = false;
+    }
+
+    private long weightOf(int termId) {
+        return weights[termId];
+    }
+
+    private SuggestionTrie newTrie() {
+        return new SuggestionTrie(SUGGESTION_CAPACITY, this::weightOf);
+    }
+
+    private static <K> Map<K, Long> drain(Map<K, LongAdder> pending) {
+        Map<K, Long> drained = new HashMap<>();
+
+        for (K key : pending.keySet()) {
+            LongAdder adder = pending.remove(key);
+
+            if (adder != null) {
+                drained.put(key, adder.sum());
+            }
+        }
+
+        return drained;
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            terms.clear();
+            titles.clear();
+            weights = new long[64];
+            stale = false;
+            keywordTrie = newTrie();
+            chosungTrie = newTrie();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record IndexedTitle(
+            String title,
+
+            long weight
+    ) {
+    }
+}
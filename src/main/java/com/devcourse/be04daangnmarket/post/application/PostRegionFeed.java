@@ -0,0 +1,212 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.common.constant.Status;
+import com.devcourse.be04daangnmarket.common.datasource.ReplicationRoutingDataSource;
+import com.devcourse.be04daangnmarket.post.domain.constant.PostStatus;
+import com.devcourse.be04daangnmarket.post.repository.PostRegionDocument;
+import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class PostRegionFeed {
+    private static final String REGION_KEY = "post:region:%s";
+    private static final String REBUILD_KEY = "post:region-rebuild:%s:%s";
+    private static final String BUILT_KEY = "post:region-feed:built";
+    private static final String LOCK_KEY = "post:region-feed:lock";
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final RedissonClient redissonClient;
+
+    public PostRegionFeed(StringRedisTemplate redisTemplate,
+                          PostRepository postRepository,
+                          RedissonClient redissonClient) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.redissonClient = redissonClient;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfAbsent() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY))) {
+                return;
+            }
+
+            rebuild();
+            redisTemplate.opsForValue().set(BUILT_KEY, LocalDateTime.now().toString());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void rebuild() {
+        String rebuildId = UUID.randomUUID().toString();
+        Set<String> regions = new HashSet<>();
+        long lastId = 0;
+        List<PostRegionDocument> batch;
+
+        do {
+            batch = postRepository.findRegionDocuments(lastId, Status.ALIVE, PostStatus.HIDDEN, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            List<PostRegionDocument> documents = batch.stream()
+                    .filter(document -> Objects.nonNull(document.region()))
+                    .toList();
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                documents.forEach(document -> stringConnection.zAdd(
+                        getRebuildKey(rebuildId, document.region()),
+                        toScore(document.pullUpAt()),
+                        document.id().toString()));
+
+                return null;
+            });
+
+            documents.forEach(document -> regions.add(document.region()));
+
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        Set<String> liveKeys = regions.stream()
+                .map(this::getKey)
+                .collect(Collectors.toSet());
+        List<String> staleKeys = findRegionKeys().stream()
+                .filter(key -> !liveKeys.contains(key))
+                .toList();
+
+        regions.forEach(region -> redisTemplate.rename(getRebuildKey(rebuildId, region), getKey(region)));
+
+        if (!staleKeys.isEmpty()) {
+            redisTemplate.delete(staleKeys);
+        }
+    }
+
+    public void moveMember(Long memberId, String previousRegion) {
+        List<Long> postIds = ReplicationRoutingDataSource.readFromPrimary(() -> postRepository.findIdsByMemberId(memberId));
+        List<PostRegionDocument> documents = ReplicationRoutingDataSource.readFromPrimary(
+                () -> postRepository.findRegionDocumentsByMemberId(memberId, Status.ALIVE, PostStatus.HIDDEN));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            if (previousRegion != null) {
+                postIds.forEach(postId -> stringConnection.zRem(getKey(previousRegion), postId.toString()));
+            }
+
+            for (PostRegionDocument document : documents) {
+                if (document.region() != null) {
+                    stringConnection.zAdd(getKey(document.region()), toScore(document.pullUpAt()), document.id().toString());
+                }
+            }
+
+            return null;
+        });
+    }
+
+    public void refresh(String region, Long postId) {
+        Optional<PostRegionDocument> document = ReplicationRoutingDataSource.readFromPrimary(
+                () -> postRepository.findRegionDocument(postId, Status.ALIVE, PostStatus.HIDDEN));
+
+        if (document.isEmpty()) {
+            remove(region, postId);
+            return;
+        }
+
+        add(region, postId, document.get().pullUpAt());
+    }
+
+    public void add(String region, Long postId, LocalDateTime pullUpAt) {
+        redisTemplate.opsForZSet().add(getKey(region), postId.toString(), toScore(pullUpAt));
+    }
+
+    public void remove(String region, Long postId) {
+        redisTemplate.opsForZSet().remove(getKey(region), postId.toString());
+    }
+
+    public Page<Long> getPostIds(String region, Pageable pageable) {
+        ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
+        String key = getKey(region);
+        long start = pageable.getOffset();
+
+        Set<String> postIds = zSetOperations.reverseRange(key, start, start + pageable.getPageSize() - 1);
+        Long total = zSetOperations.zCard(key);
+
+        List<Long> content = postIds == null
+                ? List.of()
+                : postIds.stream()
+                .map(Long::valueOf)
+                .toList();
+
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    private double toScore(LocalDateTime pullUpAt) {
+        if (pullUpAt == null) {
+            return 0;
+        }
+
+        return pullUpAt.atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private List<String> findRegionKeys() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(String.format(REGION_KEY, "*"))
+                .count(REBUILD_BATCH_SIZE)
+                .build();
+
+        return redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> keys = new ArrayList<>();
+
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+
+            return keys;
+        });
+    }
+
+    private String getKey(String region) {
+        return String.format(REGION_KEY, region);
+    }
+
+    private String getRebuildKey(String rebuildId, String region) {
+        return String.format(REBUILD_KEY, rebuildId, region);
+    }
+}
@@ -0,0 +1,61 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.common.async.PartitionedExecutor;
+import com.devcourse.be04daangnmarket.member.application.ProfileService;
+import com.devcourse.be04daangnmarket.member.dto.ProfileRegionChangedEvent;
+import com.devcourse.be04daangnmarket.post.dto.PostDeletedEvent;
+import com.devcourse.be04daangnmarket.post.dto.PostStatusChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class PostRegionFeedEventHandler {
+    private final PostRegionFeed postRegionFeed;
+    private final ProfileService profileService;
+    private final PartitionedExecutor domainEventExecutor;
+
+    public PostRegionFeedEventHandler(PostRegionFeed postRegionFeed,
+                                      ProfileService profileService,
+                                      PartitionedExecutor domainEventExecutor) {
+        this.postRegionFeed = postRegionFeed;
+        this.profileService = profileService;
+        this.domainEventExecutor = domainEventExecutor;
+    }
+
+    @TransactionalEventListener(
+            classes = PostStatusChangedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void statusChangedHandle(PostStatusChangedEvent event) {
+        domainEventExecutor.execute(event.getMemberId(), () -> refreshFeed(event.getMemberId(), event.getPostId()));
+    }
+
+    @TransactionalEventListener(
+            classes = PostDeletedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void deletedHandle(PostDeletedEvent event) {
+        domainEventExecutor.execute(event.getMemberId(), () -> refreshFeed(event.getMemberId(), event.getPostId()));
+    }
+
+    private void refreshFeed(Long memberId, Long postId) {
+        String region = profileService.getOne(memberId).getRegion();
+
+        if (region != null) {
+            postRegionFeed.refresh(region, postId);
+        }
+    }
+
+    @TransactionalEventListener(
+            classes = ProfileRegionChangedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void regionChangedHandle(ProfileRegionChangedEvent event) {
+        domainEventExecutor.execute(event.getMemberId(),
+                () -> postRegionFeed.moveMember(event.getMemberId(), event.getPreviousRegion()));
+    }
+}
@@ -0,0 +1,186 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.common.cache.EarlyRefresh;
+import com.devcourse.be04daangnmarket.common.cache.NearCache;
+import com.devcourse.be04daangnmarket.common.cache.SingleFlight;
+import com.devcourse.be04daangnmarket.post.dto.PostDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class PostResponseCache implements MessageListener {
+    private static final String CACHE_NAME = "post.response";
+    private static final String RESPONSE_KEY = "post:response:%s";
+    private static final String INVALIDATION_CHANNEL = "post:response:invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NearCache<Long, PostDto.Response> nearCache;
+    private final SingleFlight<Long, PostDto.Response> singleFlight = new SingleFlight<>();
+    private final Clock clock = Clock.systemUTC();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Duration remoteTtl;
+    private final double earlyRefreshBeta;
+    private final Counter nearHits;
+    private final Counter nearMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter earlyRefreshes;
+
+    public PostResponseCache(StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             RedisMessageListenerContainer listenerContainer,
+                             MeterRegistry meterRegistry,
+                             @Value("${custom.post.cache.near-size:10000}") int nearSize,
+                             @Value("${custom.post.cache.near-ttl:30s}") Duration nearTtl,
+                             @Value("${custom.post.cache.remote-ttl:10m}") Duration remoteTtl,
+                             @Value("${custom.post.cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.nearCache = new NearCache<>(nearSize, nearTtl, clock);
+        this.remoteTtl = remoteTtl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.nearHits = counter(meterRegistry, "near", "hit");
+        this.nearMisses = counter(meterRegistry, "near", "miss");
+        this.remoteHits = counter(meterRegistry, "remote", "hit");
+        this.remoteMisses = counter(meterRegistry, "remote", "miss");
+        this.earlyRefreshes = counter(meterRegistry, "remote", "early-refresh");
+
+        FunctionCounter.builder("cache.evictions", nearCache, NearCache::evictionCount)
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "near")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", nearCache, NearCache::size)
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "near")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public PostDto.Response get(Long postId, Supplier<PostDto.Response> loader) {
+        PostDto.Response response = nearCache.get(postId);
+
+        if (response != null) {
+            nearHits.increment();
+            return response;
+        }
+
+        nearMisses.increment();
+        long version = invalidations.get();
+        response = singleFlight.load(postId, () -> getRemoteOrLoad(postId, loader, version));
+
+        if (version == invalidations.get()) {
+            nearCache.put(postId, response);
+        }
+
+        return response;
+    }
+
+    private PostDto.Response getRemoteOrLoad(Long postId, Supplier<PostDto.Response> loader, long version) {
+        CachedResponse cached = getRemote(postId);
+
+        if (cached == null) {
+            remoteMisses.increment();
+            return load(postId, loader, version);
+        }
+
+        if (EarlyRefresh.shouldRefresh(clock.millis(), cached.expiresAt(), cached.computeMillis(), earlyRefreshBeta)) {
+            earlyRefreshes.increment();
+            return load(postId, loader, version);
+        }
+
+        remoteHits.increment();
+
+        return cached.response();
+    }
+
+    private PostDto.Response load(Long postId, Supplier<PostDto.Response> loader, long version) {
+        long start = clock.millis();
+        PostDto.Response response = loader.get();
+        long now = clock.millis();
+
+        if (version == invalidations.get()) {
+            putRemote(postId, new CachedResponse(response, now - start, now + remoteTtl.toMillis()));
+        }
+
+        return response;
+    }
+
+    public void evict(Long postId) {
+        invalidations.incrementAndGet();
+        nearCache.invalidate(postId);
+        redisTemplate.delete(getKey(postId));
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, postId.toString());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String postId = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        invalidations.incrementAndGet();
+        nearCache.invalidate(Long.valueOf(postId));
+    }
+
+    private CachedResponse getRemote(Long postId) {
+        String json = redisTemplate.opsForValue().get(getKey(postId));
+
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, CachedResponse.class);
+        } catch (JsonProcessingException e) {
+            redisTemplate.delete(getKey(postId));
+
+            return null;
+        }
+    }
+
+    private void putRemote(Long postId, CachedResponse cached) {
+        try {
+            redisTemplate.opsForValue().set(getKey(postId), objectMapper.writeValueAsString(cached), remoteTtl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String getKey(Long postId) {
+        return String.format(RESPONSE_KEY, postId);
+    }
+
+    record CachedResponse(
+            PostDto.Response response,
+
+            long computeMillis,
+
+            long expiresAt
+    ) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.post.dto.PostDeletedEvent;
+import com.devcourse.be04daangnmarket.post.dto.PostSavedEvent;
+import com.devcourse.be04daangnmarket.post.dto.PostStatusChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class PostResponseCacheEventHandler {
+    private final PostResponseCache postResponseCache;
+
+    public PostResponseCacheEventHandler(PostResponseCache postResponseCache) {
+        this.postResponseCache = postResponseCache;
+    }
+
+    @TransactionalEventListener(
+            classes = PostSavedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void savedHandle(PostSavedEvent event) {
+        postResponseCache.evict(event.getPostId());
+    }
+
+    @TransactionalEventListener(
+            classes = PostStatusChangedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void statusChangedHandle(PostStatusChangedEvent event) {
+        postResponseCache.evict(event.getPostId());
+    }
+
+    @TransactionalEventListener(
+            classes = PostDeletedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void deletedHandle(PostDeletedEvent event) {
+        postResponseCache.evict(event.getPostId());
+    }
+}
@@ -0,0 +1,210 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.common.constant.Status;
+import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import com.devcourse.be04daangnmarket.post.repository.PostSearchDocument;
+import com.devcourse.be04daangnmarket.post.util.BigramTokenizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+@Component
+public class PostSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private long totalLength;
+
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+
+        long lastId = 0;
+        List<PostSearchDocument> batch;
+
+        do {
+            batch = postRepository.findSearchDocuments(lastId, Status.ALIVE, PageRequest.of(0, REBUILD_BATCH_SIZE));
+
+            for (PostSearchDocument document : batch) {
+                index(document.id(), document.title(), document.description());
+                lastId = document.id();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    public void index(Long postId, String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        BigramTokenizer.tokenize(title).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenize(description).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        BigramTokenizer.unigrams(title).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.unigrams(description).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        String[] terms = frequencies.keySet().toArray(String[]::new);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(postId, frequencies.get(term));
+            }
+
+            documents.put(postId, new IndexedDocument(terms, length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page<Long> search(String keyword, Pageable pageable) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BigramTokenizer.tokenize(keyword)));
+
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList.Entries> entries = new ArrayList<>();
+
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+
+                if (postingList == null) {
+                    return Page.empty(pageable);
+                }
+
+                entries.add(postingList.decode());
+            }
+
+            entries.sort(Comparator.comparingInt(entry -> entry.postIds().length));
+
+            return rank(entries, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Page<Long> rank(List<PostingList.Entries> entries, Pageable pageable) {
+        int documentCount = documents.size();
+        double averageLength = (double) totalLength / documentCount;
+        double[] idf = entries.stream()
+                .mapToDouble(entry -> inverseDocumentFrequency(documentCount, entry.postIds().length))
+                .toArray();
+
+        long[] candidates = entries.get(0).postIds();
+        long[] hits = new long[candidates.length];
+        double[] scores = new double[candidates.length];
+        int hitCount = 0;
+
+        for (int i = 0; i < candidates.length; i++) {
+            long postId = candidates[i];
+            double documentLength = documents.get(postId).length();
+            double score = 0;
+            boolean matched = true;
+
+            for (int j = 0; j < entries.size() && matched; j++) {
+                PostingList.Entries entry = entries.get(j);
+                int index = j == 0 ? i : Arrays.binarySearch(entry.postIds(), postId);
+
+                if (index < 0) {
+                    matched = false;
+                    continue;
+                }
+
+                int frequency = entry.frequencies()[index];
+                score += idf[j] * frequency * (K1 + 1)
+                        / (frequency + K1 * (1 - B + B * documentLength / averageLength));
+            }
+
+            if (matched) {
+                hits[hitCount] = postId;
+                scores[hitCount] = score;
+                hitCount++;
+            }
+        }
+
+        List<Long> content = IntStream.range(0, hitCount)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(index -> scores[index]).reversed()
+                        .thenComparing(index -> hits[index], Comparator.reverseOrder()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(index -> hits[index])
+                .toList();
+
+        return new PageImpl<>(content, pageable, hitCount);
+    }
+
+    private double inverseDocumentFrequency(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void removeDocument(Long postId) {
+        IndexedDocument document = documents.remove(postId);
+
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms()) {
+            PostingList postingList = postings.get(term);
+            postingList.remove(postId);
+
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+
+        totalLength -= document.length();
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record IndexedDocument(String[] terms, int length) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.common.async.PartitionedExecutor;
+import com.devcourse.be04daangnmarket.post.dto.PostDeletedEvent;
+import com.devcourse.be04daangnmarket.post.dto.PostSavedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class PostSearchIndexEventHandler {
+    private final PostSearchIndex postSearchIndex;
+    private final PostAutocompleteIndex postAutocompleteIndex;
+    private final PartitionedExecutor domainEventExecutor;
+
+    public PostSearchIndexEventHandler(PostSearchIndex postSearchIndex,
+                                       PostAutocompleteIndex postAutocompleteIndex,
+                                       PartitionedExecutor domainEventExecutor) {
+        this.postSearchIndex = postSearchIndex;
+        this.postAutocompleteIndex = postAutocompleteIndex;
+        this.domainEventExecutor = domainEventExecutor;
+    }
+
+    @TransactionalEventListener(
+            classes = PostSavedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void indexHandle(PostSavedEvent event) {
+        domainEventExecutor.execute(event.getPostId(), () -> {
+            postSearchIndex.index(event.getPostId(), event.getTitle(), event.getDescription());
+            postAutocompleteIndex.index(event.getPostId(), event.getTitle());
+        });
+    }
+
+    @TransactionalEventListener(
+            classes = PostDeletedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true
+    )
+    public void removeHandle(PostDeletedEvent event) {
+        domainEventExecutor.execute(event.getPostId(), () -> {
+            postSearchIndex.remove(event.getPostId());
+            postAutocompleteIndex.remove(event.getPostId());
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.devcourse.be04daangnmarket.post.application;
 
-import com.devcourse.be04daangnmarket.common.aop.lock.DistributedRock;
+import com.devcourse.be04daangnmarket.common.cursor.CursorCodec;
+import com.devcourse.be04daangnmarket.common.cursor.KeysetQuery;
+import com.devcourse.be04daangnmarket.common.datasource.ReplicationRoutingDataSource;
 import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
 import com.devcourse.be04daangnmarket.image.application.ImageService;
 import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
@@ -9,21 +11,32 @@ import com.devcourse.be04daangnmarket.post.domain.Post;
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
 import com.devcourse.be04daangnmarket.post.domain.constant.PostStatus;
 import com.devcourse.be04daangnmarket.post.domain.constant.TransactionType;
+import com.devcourse.be04daangnmarket.post.dto.PostDeletedEvent;
 import com.devcourse.be04daangnmarket.post.dto.PostDto;
+import com.devcourse.be04daangnmarket.post.dto.PostSavedEvent;
+import com.devcourse.be04daangnmarket.post.dto.PostStatusChangedEvent;
 import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import com.devcourse.be04daangnmarket.post.repository.PostSummary;
 import com.devcourse.be04daangnmarket.post.util.PostConverter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.devcourse.be04daangnmarket.post.exception.ErrorMessage.*;
 
@@ -33,16 +46,37 @@ public class PostService {
     private final PostRepository postRepository;
     private final ImageService imageService;
     private final ProfileService profileService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewDeduplicator viewDeduplicator;
+    private final PostViewCounter postViewCounter;
+    private final CursorCodec cursorCodec;
+    private final PostSearchIndex postSearchIndex;
+    private final PostAutocompleteIndex postAutocompleteIndex;
+    private final PostRegionFeed postRegionFeed;
+    private final PostResponseCache postResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PostService(PostRepository postRepository,
                        ImageService imageService,
                        ProfileService profileService,
-                       RedisTemplate<String, String> redisTemplate) {
+                       ViewDeduplicator viewDeduplicator,
+                       PostViewCounter postViewCounter,
+                       CursorCodec cursorCodec,
+                       PostSearchIndex postSearchIndex,
+                       PostAutocompleteIndex postAutocompleteIndex,
+                       PostRegionFeed postRegionFeed,
+                       PostResponseCache postResponseCache,
+                       ApplicationEventPublisher eventPublisher) {
         this.postRepository = postRepository;
         this.imageService = imageService;
         this.profileService = profileService;
-        this.redisTemplate = redisTemplate;
+        this.viewDeduplicator = viewDeduplicator;
+        this.postViewCounter = postViewCounter;
+        this.cursorCodec = cursorCodec;
+        this.postSearchIndex = postSearchIndex;
+        this.postAutocompleteIndex = postAutocompleteIndex;
+        this.postRegionFeed = postRegionFeed;
+        this.postResponseCache = postResponseCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -63,6 +97,8 @@ public class PostService {
         );
 
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostSavedEvent(post.getId(), post.getTitle(), post.getDescription()));
+        publishStatusChanged(post);
 
         List<String> imagePaths = imageService.save(files, DomainName.POST, post.getId());
         String username = getUsername(post.getMemberId());
@@ -70,80 +106,153 @@ public class PostService {
         return PostConverter.toResponse(post, imagePaths, username);
     }
 
-    @DistributedRock
     public PostDto.Response getPost(Long postId, Long userId) {
-        Post post = findPostById(postId);
+        PostDto.Response post = postResponseCache.get(postId,
+                () -> ReplicationRoutingDataSource.readFromPrimary(() -> loadPost(postId)));
+
+        boolean firstView = viewDeduplicator.isFirstView(postId, userId);
+        int views = firstView
+                ? postViewCounter.increase(postId, post.views())
+                : postViewCounter.getViews(postId, post.views());
 
-        if (!isViewed(postId, userId)) {
-            post.updateView();
+        if (firstView) {
+            postAutocompleteIndex.recordView(postId);
         }
 
+        return PostConverter.withViews(post, views);
+    }
+
+    private PostDto.Response loadPost(Long postId) {
+        Post post = findPostById(postId);
         List<String> imagePaths = imageService.getImages(DomainName.POST, postId);
         String username = getUsername(post.getMemberId());
 
         return PostConverter.toResponse(post, imagePaths, username);
     }
 
-    public Page<PostDto.Response> getAllPost(Pageable pageable) {
-        return postRepository.findAll(pageable).map(post -> {
-            List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
-            String username = getUsername(post.getMemberId());
+    public Page<PostDto.Summary> getAllPost(Pageable pageable) {
+        Page<PostSummary> posts = postRepository.findAllSummaries(pageable);
 
-            return PostConverter.toResponse(post, imagePaths, username);
-        });
+        return posts.map(toSummaries(posts.getContent()));
     }
 
-    public Slice<PostDto.Response> getPostsWithCursorWithFilters(PostDto.FilterRequest request, Pageable pageable) {
-        return postRepository.findPostsWithCursorWithFilters(
-                        request.id(),
-                        request.createdAt(),
-                        request.category(),
-                        request.memberId(),
-                        request.buyerId(),
-                        request.keyword(),
-                        pageable)
-                .map(post -> {
-                    List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
-                    String username = getUsername(post.getMemberId());
+    public PostDto.CursorResponse getPostsWithCursorWithFilters(PostDto.FilterRequest request, Pageable pageable) {
+        if (request.keyword() != null && request.cursor() == null) {
+            postAutocompleteIndex.recordSearch(request.keyword());
+        }
+
+        Sort sort = KeysetQuery.withTieBreaker(pageable.getSort(), PostRepository.SORTABLE_PROPERTIES);
+        Pageable cursorPageable = PageRequest.of(0, pageable.getPageSize(), sort);
 
-                    return PostConverter.toResponse(post, imagePaths, username);
-                });
+        Slice<PostSummary> posts = postRepository.findPostsWithCursorWithFilters(
+                cursorCodec.decode(sort, request.cursor()),
+                request.category(),
+                request.memberId(),
+                request.buyerId(),
+                request.keyword(),
+                cursorPageable);
+
+        return new PostDto.CursorResponse(
+                posts.map(toSummaries(posts.getContent())),
+                cursorCodec.nextCursor(posts, sort)
+        );
     }
 
-    public Page<PostDto.Response> getPostByCategory(Category category, Pageable pageable) {
-        return postRepository.findByCategory(category, pageable).map(post -> {
-            List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
-            String username = getUsername(post.getMemberId());
+    public Page<PostDto.Summary> getPostByCategory(Category category, Pageable pageable) {
+        Page<PostSummary> posts = postRepository.findSummariesByCategory(category, pageable);
 
-            return PostConverter.toResponse(post, imagePaths, username);
-        });
+        return posts.map(toSummaries(posts.getContent()));
     }
 
-    public Page<PostDto.Response> getPostByMemberId(Long memberId, Pageable pageable) {
-        return postRepository.findByMemberId(memberId, pageable).map(post -> {
-            List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
-            String username = getUsername(post.getMemberId());
+    public Page<PostDto.Summary> getPostByMemberId(Long memberId, Pageable pageable) {
+        Page<PostSummary> posts = postRepository.findSummariesByMemberId(memberId, pageable);
 
-            return PostConverter.toResponse(post, imagePaths, username);
-        });
+        return posts.map(toSummaries(posts.getContent()));
     }
 
-    public Page<PostDto.Response> getPostByKeyword(String keyword, Pageable pageable) {
-        return postRepository.findByTitleContaining(keyword, pageable).map(post -> {
-            List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
-            String username = getUsername(post.getMemberId());
+    public Page<PostDto.Summary> getPostByKeyword(String keyword, Pageable pageable) {
+        recordSearch(keyword, pageable);
+        Page<PostSummary> posts = postRepository.findSummariesByTitleContaining(keyword, pageable);
 
-            return PostConverter.toResponse(post, imagePaths, username);
-        });
+        return posts.map(toSummaries(posts.getContent()));
     }
 
-    public Page<PostDto.Response> getPostByBuyerId(Long buyerId, Pageable pageable) {
-        return postRepository.findByBuyerId(buyerId, pageable).map(post -> {
-            List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
-            String username = getUsername(post.getMemberId());
+    public Page<PostDto.Summary> searchPosts(String keyword, Pageable pageable) {
+        recordSearch(keyword, pageable);
+        Page<Long> postIds = postSearchIndex.search(keyword, pageable);
 
-            return PostConverter.toResponse(post, imagePaths, username);
-        });
+        return toSummariesInOrder(postIds, pageable);
+    }
+
+    public Page<PostDto.Summary> getNeighborhoodPosts(Long userId, Pageable pageable) {
+        String region = profileService.getOne(userId).getRegion();
+
+        if (region == null) {
+            throw new IllegalArgumentException(NOT_FOUND_REGION.getMessage());
+        }
+
+        Page<Long> postIds = postRegionFeed.getPostIds(region, pageable);
+
+        return toSummariesInOrder(postIds, pageable);
+    }
+
+    private Page<PostDto.Summary> toSummariesInOrder(Page<Long> postIds, Pageable pageable) {
+        if (!postIds.hasContent()) {
+            return new PageImpl<>(List.of(), pageable, postIds.getTotalElements());
+        }
+
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(postIds.getContent())
+                .stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+
+        List<PostSummary> posts = postIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(posts, pageable, postIds.getTotalElements())
+                .map(toSummaries(posts));
+    }
+
+    public List<String> suggestKeywords(String prefix, int limit) {
+        return postAutocompleteIndex.suggest(prefix, limit);
+    }
+
+    private void recordSearch(String keyword, Pageable pageable) {
+        if (pageable.getPageNumber() == 0) {
+            postAutocompleteIndex.recordSearch(keyword);
+        }
+    }
+
+    public Page<PostDto.Summary> getPostByBuyerId(Long buyerId, Pageable pageable) {
+        Page<PostSummary> posts = postRepository.findSummariesByBuyerId(buyerId, pageable);
+
+        return posts.map(toSummaries(posts.getContent()));
+    }
+
+    public PostDto.CursorResponse getPostsWithKeyset(String cursor,
+                                                     Category category,
+                                                     Long memberId,
+                                                     Long buyerId,
+                                                     String keyword,
+                                                     Pageable pageable) {
+        PostDto.FilterRequest request = new PostDto.FilterRequest(cursor, category, memberId, buyerId, keyword);
+
+        return getPostsWithCursorWithFilters(request, pageable);
+    }
+
+    private Function<PostSummary, PostDto.Summary> toSummaries(List<PostSummary> posts) {
+        List<Long> postIds = posts.stream()
+                .map(PostSummary::id)
+                .toList();
+        Set<Long> memberIds = posts.stream()
+                .map(PostSummary::memberId)
+                .collect(Collectors.toSet());
+
+        Map<Long, List<String>> imagePaths = imageService.getThumbnailsByDomainIds(DomainName.POST, postIds);
+        Map<Long, String> usernames = profileService.getUsernames(memberIds);
+
+        return post -> PostConverter.toSummary(post, imagePaths, usernames);
     }
 
     @Transactional
@@ -152,11 +261,13 @@ public class PostService {
         Post post = findPostById(id);
 
         post.update(title, description, price, transactionType, category);
+        eventPublisher.publishEvent(new PostSavedEvent(post.getId(), post.getTitle(), post.getDescription()));
         List<String> imagePaths = imageService.getImages(DomainName.POST, id);
 
         if (isExistImages(files)) {
             imageService.deleteAllImages(DomainName.POST, id);
             imagePaths = imageService.save(files, DomainName.POST, id);
+            post.touch();
         }
 
         String username = getUsername(post.getMemberId());
@@ -172,6 +283,7 @@ public class PostService {
     public PostDto.Response updatePostStatus(Long id, PostStatus postStatus) {
         Post post = findPostById(id);
         post.updatePostStatus(postStatus);
+        publishStatusChanged(post);
 
         List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
         String username = getUsername(post.getMemberId());
@@ -179,6 +291,11 @@ public class PostService {
         return PostConverter.toResponse(post, imagePaths, username);
     }
 
+    public LocalDateTime getLastModified(Long id) {
+        return postRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_POST.getMessage()));
+    }
+
     public Post findPostById(Long id) {
         return postRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException(NOT_FOUND_POST.getMessage()));
@@ -188,6 +305,7 @@ public class PostService {
     public void delete(Long id) {
         Post post = findPostById(id);
         post.deleteStatus();
+        eventPublisher.publishEvent(new PostDeletedEvent(id, post.getMemberId()));
 
         imageService.deleteAllImages(DomainName.POST, id);
     }
@@ -196,6 +314,7 @@ public class PostService {
     public PostDto.Response purchaseProduct(Long id, Long buyerId) {
         Post post = findPostById(id);
         post.purchased(buyerId);
+        publishStatusChanged(post);
 
         List<String> imagePaths = imageService.getImages(DomainName.POST, post.getId());
         String username = getUsername(post.getMemberId());
@@ -203,24 +322,16 @@ public class PostService {
         return PostConverter.toResponse(post, imagePaths, username);
     }
 
-    private String getUsername(Long memberId) {
-        return profileService.toProfile(memberId).username();
+    private void publishStatusChanged(Post post) {
+        eventPublisher.publishEvent(new PostStatusChangedEvent(
+                post.getId(),
+                post.getMemberId(),
+                post.getPostStatus(),
+                post.getPullUpAt()
+        ));
     }
 
-    private boolean isViewed(Long postId, Long userId) {
-        SetOperations<String, String> setOperations = redisTemplate.opsForSet();
-        String key = userId.toString();
-        String value = postId.toString();
-
-        Set<String> viewedPosts = setOperations.members(key);
-
-        if (viewedPosts.contains(value)) {
-            return true;
-        }
-
-        setOperations.add(key, value);
-
-        return false;
+    private String getUsername(Long memberId) {
+        return profileService.toProfile(memberId).username();
     }
-
 }
@@ -0,0 +1,86 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PostViewCounter {
+    private static final String VIEWS_KEY = "post:views:%s";
+    private static final String DIRTY_KEY = "post:views:dirty";
+    private static final Duration VIEWS_TTL = Duration.ofDays(1);
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+
+    public PostViewCounter(StringRedisTemplate redisTemplate, PostRepository postRepository) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+    }
+
+    public int increase(Long postId, int baseViews) {
+        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+        String key = getKey(postId);
+
+        valueOperations.setIfAbsent(key, String.valueOf(baseViews));
+        Long views = valueOperations.increment(key);
+        redisTemplate.expire(key, VIEWS_TTL);
+        redisTemplate.opsForSet().add(DIRTY_KEY, postId.toString());
+
+        return Math.max(views.intValue(), baseViews);
+    }
+
+    public int getViews(Long postId, int baseViews) {
+        String views = redisTemplate.opsForValue().get(getKey(postId));
+
+        if (views == null) {
+            return baseViews;
+        }
+
+        return Math.max(Integer.parseInt(views), baseViews);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.post.views.flush-interval:5000}")
+    public void flush() {
+        List<String> postIds;
+
+        do {
+            postIds = redisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH_SIZE);
+
+            if (postIds == null || postIds.isEmpty()) {
+                return;
+            }
+
+            postRepository.updateViews(getPendingViews(postIds));
+        } while (postIds.size() == FLUSH_BATCH_SIZE);
+    }
+
+    private Map<Long, Integer> getPendingViews(List<String> postIds) {
+        List<String> keys = postIds.stream()
+                .map(this::getKey)
+                .toList();
+        List<String> views = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, Integer> pendingViews = new HashMap<>();
+
+        for (int i = 0; i < postIds.size(); i++) {
+            if (views.get(i) != null) {
+                pendingViews.put(Long.valueOf(postIds.get(i)), Integer.valueOf(views.get(i)));
+            }
+        }
+
+        return pendingViews;
+    }
+
+    private String getKey(Object postId) {
+        return String.format(VIEWS_KEY, postId);
+    }
+}
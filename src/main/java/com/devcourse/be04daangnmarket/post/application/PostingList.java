@@ -0,0 +1,139 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import java.util.Arrays;
+
+class PostingList {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int size;
+    private long lastId;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(long postId, int frequency) {
+        if (size > 0 && postId <= lastId) {
+            Entries entries = decode();
+            int index = Arrays.binarySearch(entries.postIds(), postId);
+
+            if (index >= 0) {
+                entries.frequencies()[index] = frequency;
+                rewrite(entries.postIds(), entries.frequencies(), size);
+
+                return;
+            }
+
+            int insertion = -index - 1;
+            long[] postIds = new long[size + 1];
+            int[] frequencies = new int[size + 1];
+
+            System.arraycopy(entries.postIds(), 0, postIds, 0, insertion);
+            System.arraycopy(entries.frequencies(), 0, frequencies, 0, insertion);
+            postIds[insertion] = postId;
+            frequencies[insertion] = frequency;
+            System.arraycopy(entries.postIds(), insertion, postIds, insertion + 1, size - insertion);
+            System.arraycopy(entries.frequencies(), insertion, frequencies, insertion + 1, size - insertion);
+
+            rewrite(postIds, frequencies, postIds.length);
+
+            return;
+        }
+
+        append(postId, frequency);
+    }
+
+    void remove(long postId) {
+        Entries entries = decode();
+        int index = Arrays.binarySearch(entries.postIds(), postId);
+
+        if (index < 0) {
+            return;
+        }
+
+        long[] postIds = entries.postIds();
+        int[] frequencies = entries.frequencies();
+
+        System.arraycopy(postIds, index + 1, postIds, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+
+        rewrite(postIds, frequencies, size - 1);
+    }
+
+    Entries decode() {
+        long[] postIds = new long[size];
+        int[] frequencies = new int[size];
+        int position = 0;
+        long previous = 0;
+
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte current;
+
+            do {
+                current = data[position++];
+                delta |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+
+            int frequency = 0;
+            shift = 0;
+
+            do {
+                current = data[position++];
+                frequency |= (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+
+            previous += delta;
+            postIds[i] = previous;
+            frequencies[i] = frequency;
+        }
+
+        return new Entries(postIds, frequencies);
+    }
+
+    private void rewrite(long[] postIds, int[] frequencies, int count) {
+        length = 0;
+        size = 0;
+        lastId = 0;
+
+        for (int i = 0; i < count; i++) {
+            append(postIds[i], frequencies[i]);
+        }
+
+        if (data.length > INITIAL_CAPACITY && length < data.length / 4) {
+            data = Arrays.copyOf(data, Math.max(INITIAL_CAPACITY, length * 2));
+        }
+    }
+
+    private void append(long postId, int frequency) {
+        writeVarLong(postId - lastId);
+        writeVarLong(frequency);
+        lastId = postId;
+        size++;
+    }
+
+    private void writeVarLong(long value) {
+        if (data.length - length < 10) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        data[length++] = (byte) value;
+    }
+
+    record Entries(long[] postIds, int[] frequencies) {
+    }
+}
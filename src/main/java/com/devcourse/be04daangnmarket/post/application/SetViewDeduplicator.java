@@ -0,0 +1,44 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "custom.post.views.dedup.strategy", havingValue = "set")
+public class SetViewDeduplicator implements ViewDeduplicator {
+    private static final String VIEWED_KEY = "post:viewed:set:%s";
+    private static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            local added = redis.call('SADD', KEYS[1], ARGV[2])
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return added
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+
+    public SetViewDeduplicator(StringRedisTemplate redisTemplate,
+                               @Value("${custom.post.views.dedup.window:24h}") Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    @Override
+    public boolean isFirstView(Long postId, Long userId) {
+        Long added = redisTemplate.execute(
+                ADD_SCRIPT,
+                List.of(String.format(VIEWED_KEY, userId)),
+                String.valueOf(window.toSeconds()),
+                postId.toString()
+        );
+
+        return added != null && added > 0;
+    }
+}
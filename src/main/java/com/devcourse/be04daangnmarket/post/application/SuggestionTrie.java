@@ -0,0 +1,162 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+class SuggestionTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final int[] NO_TERMS = new int[0];
+
+    private final int capacity;
+    private final IntToLongFunction weightOf;
+    private final Node root = new Node("");
+
+    SuggestionTrie(int capacity, IntToLongFunction weightOf) {
+        this.capacity = capacity;
+        this.weightOf = weightOf;
+    }
+
+    void offer(String key, int termId) {
+        Node node = root;
+        String remaining = key;
+        offer(node, termId);
+
+        while (!remaining.isEmpty()) {
+            int index = Arrays.binarySearch(node.keys, remaining.charAt(0));
+
+            if (index < 0) {
+                Node leaf = new Node(remaining);
+                node.insertChild(-index - 1, leaf);
+                offer(leaf, termId);
+
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, remaining);
+
+            if (common < child.label.length()) {
+                child = split(node, index, common);
+            }
+
+            node = child;
+            remaining = remaining.substring(common);
+            offer(node, termId);
+        }
+    }
+
+    int[] find(String prefix) {
+        Node node = root;
+        String remaining = prefix;
+
+        while (!remaining.isEmpty()) {
+            int index = Arrays.binarySearch(node.keys, remaining.charAt(0));
+
+            if (index < 0) {
+                return NO_TERMS;
+            }
+
+            Node child = node.children[index];
+
+            if (child.label.startsWith(remaining)) {
+                return child.top;
+            }
+
+            if (!remaining.startsWith(child.label)) {
+                return NO_TERMS;
+            }
+
+            node = child;
+            remaining = remaining.substring(child.label.length());
+        }
+
+        return node.top;
+    }
+
+    private Node split(Node parent, int index, int length) {
+        Node child = parent.children[index];
+        Node middle = new Node(child.label.substring(0, length));
+
+        child.label = child.label.substring(length);
+        middle.keys = new char[]{child.label.charAt(0)};
+        middle.children = new Node[]{child};
+        middle.top = child.top.clone();
+        parent.children[index] = middle;
+
+        return middle;
+    }
+
+    private void offer(Node node, int termId) {
+        int[] top = node.top;
+        int position = indexOf(top, termId);
+
+        if (position < 0) {
+            if (top.length < capacity) {
+                top = Arrays.copyOf(top, top.length + 1);
+            } else if (weightOf.applyAsLong(top[top.length - 1]) >= weightOf.applyAsLong(termId)) {
+                return;
+            }
+
+            position = top.length - 1;
+            top[position] = termId;
+        }
+
+        long weight = weightOf.applyAsLong(termId);
+
+        while (position > 0 && weightOf.applyAsLong(top[position - 1]) < weight) {
+            top[position] = top[position - 1];
+            top[position - 1] = termId;
+            position--;
+        }
+
+        node.top = top;
+    }
+
+    private static int indexOf(int[] terms, int termId) {
+        for (int i = 0; i < terms.length; i++) {
+            if (terms[i] == termId) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int commonPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        int index = 0;
+
+        while (index < length && first.charAt(index) == second.charAt(index)) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static class Node {
+        private String label;
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int[] top = NO_TERMS;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void insertChild(int index, Node child) {
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = child.label.charAt(0);
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+public interface ViewDeduplicator {
+    boolean isFirstView(Long postId, Long userId);
+}
@@ -41,7 +41,7 @@ public class Post extends BaseEntity {
     @ColumnDefault("0")
     private int price;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private int views;
 
@@ -195,10 +195,6 @@ public class Post extends BaseEntity {
         this.status = Status.DELETED;
     }
 
-    public void updateView() {
-        this.views++;
-    }
-
     public void purchased(Long buyerId) {
         this.postStatus = PostStatus.SOLD;
         this.buyerId = buyerId;
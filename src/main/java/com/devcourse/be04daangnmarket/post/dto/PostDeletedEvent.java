@@ -0,0 +1,19 @@
+package com.devcourse.be04daangnmarket.post.dto;
+
+public class PostDeletedEvent {
+    private final Long postId;
+    private final Long memberId;
+
+    public PostDeletedEvent(Long postId, Long memberId) {
+        this.postId = postId;
+        this.memberId = memberId;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+}
@@ -3,6 +3,7 @@ package com.devcourse.be04daangnmarket.post.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
@@ -29,7 +30,7 @@ public class PostDto {
             @NotNull(message = "카테고리는 필수 입니다.")
             Category category,
 
-            List<MultipartFile> files
+            List<String> uploadIds
     ) {
     }
 
@@ -65,9 +66,7 @@ public class PostDto {
     }
 
     public record FilterRequest(
-            Long id,
-
-            LocalDateTime createdAt,
+            String cursor,
 
             Category category,
 
@@ -107,4 +106,36 @@ public class PostDto {
             LocalDateTime createdAt
     ) {
     }
+
+    public record Summary(
+            Long id,
+
+            Long memberId,
+
+            String userName,
+
+            String title,
+
+            int price,
+
+            int views,
+
+            String transactionType,
+
+            String category,
+
+            String status,
+
+            String imagePath,
+
+            LocalDateTime createdAt
+    ) {
+    }
+
+    public record CursorResponse(
+            Slice<Summary> posts,
+
+            String nextCursor
+    ) {
+    }
 }
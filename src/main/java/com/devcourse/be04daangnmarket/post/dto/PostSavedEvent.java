@@ -0,0 +1,25 @@
+package com.devcourse.be04daangnmarket.post.dto;
+
+public class PostSavedEvent {
+    private final Long postId;
+    private final String title;
+    private final String description;
+
+    public PostSavedEvent(Long postId, String title, String description) {
+        this.postId = postId;
+        this.title = title;
+        this.description = description;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,35 @@
+package com.devcourse.be04daangnmarket.post.dto;
+
+import com.devcourse.be04daangnmarket.post.domain.constant.PostStatus;
+
+import java.time.LocalDateTime;
+
+public class PostStatusChangedEvent {
+    private final Long postId;
+    private final Long memberId;
+    private final PostStatus postStatus;
+    private final LocalDateTime pullUpAt;
+
+    public PostStatusChangedEvent(Long postId, Long memberId, PostStatus postStatus, LocalDateTime pullUpAt) {
+        this.postId = postId;
+        this.memberId = memberId;
+        this.postStatus = postStatus;
+        this.pullUpAt = pullUpAt;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public PostStatus getPostStatus() {
+        return postStatus;
+    }
+
+    public LocalDateTime getPullUpAt() {
+        return pullUpAt;
+    }
+}
@@ -1,7 +1,8 @@
 package com.devcourse.be04daangnmarket.post.exception;
 
 public enum ErrorMessage {
-    NOT_FOUND_POST("존재하지 않는 게시물 입니다.")
+    NOT_FOUND_POST("존재하지 않는 게시물 입니다."),
+    NOT_FOUND_REGION("동네 정보가 설정되지 않은 회원입니다.")
 	;
 
     private final String message;
@@ -0,0 +1,12 @@
+package com.devcourse.be04daangnmarket.post.repository;
+
+import java.time.LocalDateTime;
+
+public record PostRegionDocument(
+        Long id,
+
+        String region,
+
+        LocalDateTime pullUpAt
+) {
+}
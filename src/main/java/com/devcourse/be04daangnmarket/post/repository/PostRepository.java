@@ -6,22 +6,83 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.devcourse.be04daangnmarket.common.constant.Status;
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
+import com.devcourse.be04daangnmarket.post.domain.constant.PostStatus;
 import com.devcourse.be04daangnmarket.post.domain.Post;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long>, PostWithCursorRepository {
-    Page<Post> findByCategory(Category category, Pageable pageable);
+public interface PostRepository extends JpaRepository<Post, Long>, PostWithCursorRepository, PostViewsRepository {
+    String SELECT_SUMMARY = "SELECT new com.devcourse.be04daangnmarket.post.repository.PostSummary("
+            + "p.id, p.memberId, p.title, p.price, p.views, p.transactionType, p.category, p.postStatus, p.pullUpAt, p.createdAt"
+            + ") FROM Post p";
 
-    Page<Post> findByMemberId(Long memberId, Pageable pageable);
+    @Query(value = SELECT_SUMMARY,
+            countQuery = "SELECT count(p) FROM Post p")
+    Page<PostSummary> findAllSummaries(Pageable pageable);
 
-    Page<Post> findByTitleContaining(String title, Pageable pageable);
+    @Query(value = SELECT_SUMMARY + " WHERE p.category = :category",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.category = :category")
+    Page<PostSummary> findSummariesByCategory(@Param("category") Category category, Pageable pageable);
 
-    Page<Post> findByBuyerId(Long buyerId, Pageable pageable);
+    @Query(value = SELECT_SUMMARY + " WHERE p.memberId = :memberId",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.memberId = :memberId")
+    Page<PostSummary> findSummariesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + " WHERE p.title LIKE CONCAT('%', :title, '%')",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.title LIKE CONCAT('%', :title, '%')")
+    Page<PostSummary> findSummariesByTitleContaining(@Param("title") String title, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + " WHERE p.buyerId = :buyerId",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.buyerId = :buyerId")
+    Page<PostSummary> findSummariesByBuyerId(@Param("buyerId") Long buyerId, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.devcourse.be04daangnmarket.post.repository.PostSearchDocument(p.id, p.title, p.description)"
+            + " FROM Post p WHERE p.id > :lastId AND p.status = :status ORDER BY p.id")
+    List<PostSearchDocument> findSearchDocuments(@Param("lastId") Long lastId, @Param("status") Status status, Pageable pageable);
+
+    @Query("SELECT new com.devcourse.be04daangnmarket.post.repository.PostTitleDocument(p.id, p.title, p.views)"
+            + " FROM Post p WHERE p.id > :lastId AND p.status = :status ORDER BY p.id")
+    List<PostTitleDocument> findTitleDocuments(@Param("lastId") Long lastId, @Param("status") Status status, Pageable pageable);
+
+    @Query("SELECT new com.devcourse.be04daangnmarket.post.repository.PostRegionDocument(p.id, pr.region, p.pullUpAt)"
+            + " FROM Post p JOIN Profile pr ON pr.memberId = p.memberId"
+            + " WHERE p.id > :lastId AND p.status = :status AND p.postStatus <> :hidden ORDER BY p.id")
+    List<PostRegionDocument> findRegionDocuments(@Param("lastId") Long lastId,
+                                                 @Param("status") Status status,
+                                                 @Param("hidden") PostStatus hidden,
+                                                 Pageable pageable);
+
+    @Query("SELECT new com.devcourse.be04daangnmarket.post.repository.PostRegionDocument(p.id, pr.region, p.pullUpAt)"
+            + " FROM Post p JOIN Profile pr ON pr.memberId = p.memberId"
+            + " WHERE p.memberId = :memberId AND p.status = :status AND p.postStatus <> :hidden")
+    List<PostRegionDocument> findRegionDocumentsByMemberId(@Param("memberId") Long memberId,
+                                                           @Param("status") Status status,
+                                                           @Param("hidden") PostStatus hidden);
+
+    @Query("SELECT new com.devcourse.be04daangnmarket.post.repository.PostRegionDocument(p.id, pr.region, p.pullUpAt)"
+            + " FROM Post p JOIN Profile pr ON pr.memberId = p.memberId"
+            + " WHERE p.id = :id AND p.status = :status AND p.postStatus <> :hidden")
+    Optional<PostRegionDocument> findRegionDocument(@Param("id") Long id,
+                                                    @Param("status") Status status,
+                                                    @Param("hidden") PostStatus hidden);
+
+    @Query("SELECT p.id FROM Post p WHERE p.memberId = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT greatest(p.updatedAt, pr.updatedAt) FROM Post p JOIN Profile pr ON pr.memberId = p.memberId WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Post p WHERE p.id = :id")
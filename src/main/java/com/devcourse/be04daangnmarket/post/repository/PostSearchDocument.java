@@ -0,0 +1,10 @@
+package com.devcourse.be04daangnmarket.post.repository;
+
+public record PostSearchDocument(
+        Long id,
+
+        String title,
+
+        String description
+) {
+}
@@ -0,0 +1,30 @@
+package com.devcourse.be04daangnmarket.post.repository;
+
+import com.devcourse.be04daangnmarket.post.domain.constant.Category;
+import com.devcourse.be04daangnmarket.post.domain.constant.PostStatus;
+import com.devcourse.be04daangnmarket.post.domain.constant.TransactionType;
+
+import java.time.LocalDateTime;
+
+public record PostSummary(
+        Long id,
+
+        Long memberId,
+
+        String title,
+
+        int price,
+
+        int views,
+
+        TransactionType transactionType,
+
+        Category category,
+
+        PostStatus postStatus,
+
+        LocalDateTime pullUpAt,
+
+        LocalDateTime createdAt
+) {
+}
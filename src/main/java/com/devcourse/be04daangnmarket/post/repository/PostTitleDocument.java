@@ -0,0 +1,10 @@
+package com.devcourse.be04daangnmarket.post.repository;
+
+public record PostTitleDocument(
+        Long id,
+
+        String title,
+
+        int views
+) {
+}
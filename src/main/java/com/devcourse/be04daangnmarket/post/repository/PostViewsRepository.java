@@ -0,0 +1,7 @@
+package com.devcourse.be04daangnmarket.post.repository;
+
+import java.util.Map;
+
+public interface PostViewsRepository {
+    void updateViews(Map<Long, Integer> views);
+}
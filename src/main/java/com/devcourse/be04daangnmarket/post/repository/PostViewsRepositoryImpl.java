@@ -0,0 +1,25 @@
+package com.devcourse.be04daangnmarket.post.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+public class PostViewsRepositoryImpl implements PostViewsRepository {
+    private static final String UPDATE_VIEWS_SQL = "UPDATE posts SET views = ? WHERE id = ? AND views < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostViewsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void updateViews(Map<Long, Integer> views) {
+        List<Object[]> batchArgs = views.entrySet().stream()
+                .map(view -> new Object[]{view.getValue(), view.getKey(), view.getValue()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_VIEWS_SQL, batchArgs);
+    }
+}
@@ -6,16 +6,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 public interface PostWithCursorRepository {
 
-    public Slice<Post> findPostsWithCursorWithFilters(Long id,
-                                                    LocalDateTime createdAt,
-                                                    Category category,
-                                                    Long memberId,
-                                                    Long buyerId,
-                                                    String keyword,
-                                                    Pageable pageable);
+    Set<String> SORTABLE_PROPERTIES = Set.of("price", "views", "pullUpAt", "createdAt");
+
+    Slice<PostSummary> findPostsWithCursorWithFilters(List<String> cursorValues,
+                                                      Category category,
+                                                      Long memberId,
+                                                      Long buyerId,
+                                                      String keyword,
+                                                      Pageable pageable);
 
     Slice<Post> findPostsWithCursor(Long id,
                                    LocalDateTime createdAt,
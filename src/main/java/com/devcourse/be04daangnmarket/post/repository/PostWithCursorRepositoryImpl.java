@@ -1,5 +1,6 @@
 package com.devcourse.be04daangnmarket.post.repository;
 
+import com.devcourse.be04daangnmarket.common.cursor.KeysetQuery;
 import com.devcourse.be04daangnmarket.post.domain.Post;
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
 import jakarta.persistence.EntityManager;
@@ -8,6 +9,7 @@ import jakarta.persistence.criteria.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 
@@ -25,20 +27,18 @@ public class PostWithCursorRepositoryImpl implements PostWithCursorRepository {
     }
 
     @Override
-    public Slice<Post> findPostsWithCursorWithFilters(Long id,
-                                                      LocalDateTime createdAt,
-                                                      Category category,
-                                                      Long memberId,
-                                                      Long buyerId,
-                                                      String keyword,
-                                                      Pageable pageable) {
+    public Slice<PostSummary> findPostsWithCursorWithFilters(List<String> cursorValues,
+                                                             Category category,
+                                                             Long memberId,
+                                                             Long buyerId,
+                                                             String keyword,
+                                                             Pageable pageable) {
         CriteriaBuilder builder = em.getCriteriaBuilder();
-        CriteriaQuery<Post> query = builder.createQuery(Post.class);
+        CriteriaQuery<PostSummary> query = builder.createQuery(PostSummary.class);
         Root<Post> post = query.from(Post.class);
+        Sort sort = KeysetQuery.withTieBreaker(pageable.getSort(), SORTABLE_PROPERTIES);
 
         List<Predicate> conditions = new ArrayList<>();
-        Optional.ofNullable(id)
-                .ifPresent(key -> conditions.add(builder.lessThan(post.get("id"), key)));
         Optional.ofNullable(category)
                 .ifPresent(key -> conditions.add(builder.equal(post.get("category"), key)));
         Optional.ofNullable(memberId)
@@ -47,36 +47,28 @@ public class PostWithCursorRepositoryImpl implements PostWithCursorRepository {
                 .ifPresent(key -> conditions.add(builder.equal(post.get("buyerId"), key)));
         Optional.ofNullable(keyword)
                 .ifPresent(key -> conditions.add(builder.like(post.get("title"), "%" + key + "%")));
-        Optional.ofNullable(createdAt)
-                .map(key -> {
-                    Predicate createdAtEq = builder.equal(post.get("createdAt"), key);
-                    Predicate idLt = builder.lessThan(post.get("id"), id);
-
-                    Predicate and = builder.and(createdAtEq, idLt);
-
-                    return pageable.getSort().getOrderFor("price").isDescending()
-                            ? builder.or(builder.lessThan(post.get("createdAt"), key), and)
-                            : builder.or(builder.greaterThan(post.get("createdAt"), key), and);
-                }).ifPresent(cursorCondition -> conditions.add(cursorCondition));
-
-        Predicate where = builder.and(conditions.toArray(Predicate[]::new));
-
-        Order createdAtOrder = pageable.getSort().getOrderFor("price").isDescending()
-                ? builder.desc(post.get("createdAt"))
-                : builder.asc(post.get("createdAt"));
-
-        Order idOrder = builder.desc(post.get("id"));
-
-        query.select(post)
-                .where(where)
-                .orderBy(createdAtOrder, idOrder);
-
-        TypedQuery<Post> typedQuery = em.createQuery(query);
-        typedQuery.setFirstResult(0);
+        Optional.ofNullable(cursorValues)
+                .ifPresent(key -> conditions.add(KeysetQuery.seek(builder, post, sort, key)));
+
+        query.select(builder.construct(PostSummary.class,
+                        post.get("id"),
+                        post.get("memberId"),
+                        post.get("title"),
+                        post.get("price"),
+                        post.get("views"),
+                        post.get("transactionType"),
+                        post.get("category"),
+                        post.get("postStatus"),
+                        post.get("pullUpAt"),
+                        post.get("createdAt")))
+                .where(conditions.toArray(Predicate[]::new))
+                .orderBy(KeysetQuery.toOrders(builder, post, sort));
+
+        TypedQuery<PostSummary> typedQuery = em.createQuery(query);
         typedQuery.setMaxResults(pageable.getPageSize() + 1);
-        List<Post> resultList = typedQuery.getResultList();
+        List<PostSummary> resultList = typedQuery.getResultList();
 
-        return toSlice(resultList, pageable);
+        return KeysetQuery.toSlice(resultList, pageable);
     }
 
     @Override
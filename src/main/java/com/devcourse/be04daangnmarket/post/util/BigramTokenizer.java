@@ -0,0 +1,58 @@
+package com.devcourse.be04daangnmarket.post.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class BigramTokenizer {
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        for (String word : words(text)) {
+            int[] codePoints = word.codePoints().toArray();
+
+            if (codePoints.length == 1) {
+                tokens.add(word);
+            }
+
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+
+        return tokens;
+    }
+
+    // 한 글자 단어는 tokenize가 이미 유니그램으로 만들기 때문에 두 글자 이상 단어의 글자만 반환한다
+    public static List<String> unigrams(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        for (String word : words(text)) {
+            int[] codePoints = word.codePoints().toArray();
+
+            if (codePoints.length > 1) {
+                for (int codePoint : codePoints) {
+                    tokens.add(Character.toString(codePoint));
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    public static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        return DELIMITER.splitAsStream(normalized)
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+}
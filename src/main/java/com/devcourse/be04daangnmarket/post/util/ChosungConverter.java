@@ -0,0 +1,41 @@
+package com.devcourse.be04daangnmarket.post.util;
+
+public class ChosungConverter {
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+
+        for (char character : text.toCharArray()) {
+            builder.append(isSyllable(character)
+                    ? CHOSUNG[(character - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG]
+                    : character);
+        }
+
+        return builder.toString();
+    }
+
+    public static boolean containsChosung(String text) {
+        for (char character : text.toCharArray()) {
+            if (isChosung(character)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isSyllable(char character) {
+        return character >= HANGUL_BEGIN && character <= HANGUL_END;
+    }
+
+    private static boolean isChosung(char character) {
+        return character >= 'ㄱ' && character <= 'ㅎ';
+    }
+}
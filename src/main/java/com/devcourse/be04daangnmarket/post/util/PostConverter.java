@@ -4,8 +4,11 @@ import com.devcourse.be04daangnmarket.post.domain.Post;
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
 import com.devcourse.be04daangnmarket.post.domain.constant.TransactionType;
 import com.devcourse.be04daangnmarket.post.dto.PostDto;
+import com.devcourse.be04daangnmarket.post.repository.PostSummary;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class PostConverter {
     public static Post toEntity(Long memberId,
@@ -25,6 +28,10 @@ public class PostConverter {
     }
 
     public static PostDto.Response toResponse(Post post, List<String> imagePaths, String username) {
+        return toResponse(post, post.getViews(), imagePaths, username);
+    }
+
+    public static PostDto.Response toResponse(Post post, int views, List<String> imagePaths, String username) {
         return new PostDto.Response(
                 post.getId(),
                 post.getMemberId(),
@@ -32,7 +39,7 @@ public class PostConverter {
                 post.getTitle(),
                 post.getDescription(),
                 post.getPrice(),
-                post.getViews(),
+                views,
                 post.getTransactionType().getDescription(),
                 post.getCategory().getDescription(),
                 post.getPostStatus().getDescription(),
@@ -41,4 +48,43 @@ public class PostConverter {
                 post.getCreatedAt()
         );
     }
+
+    public static PostDto.Response withViews(PostDto.Response response, int views) {
+        return new PostDto.Response(
+                response.id(),
+                response.memberId(),
+                response.userName(),
+                response.title(),
+                response.description(),
+                response.price(),
+                views,
+                response.transactionType(),
+                response.category(),
+                response.status(),
+                response.imagePaths(),
+                response.buyerId(),
+                response.createdAt()
+        );
+    }
+
+    public static PostDto.Summary toSummary(PostSummary post, Map<Long, List<String>> imagePaths, Map<Long, String> usernames) {
+        String imagePath = imagePaths.getOrDefault(post.id(), Collections.emptyList())
+                .stream()
+                .findFirst()
+                .orElse(null);
+
+        return new PostDto.Summary(
+                post.id(),
+                post.memberId(),
+                usernames.get(post.memberId()),
+                post.title(),
+                post.price(),
+                post.views(),
+                post.transactionType().getDescription(),
+                post.category().getDescription(),
+                post.postStatus().getDescription(),
+                imagePath,
+                post.createdAt()
+        );
+    }
 }
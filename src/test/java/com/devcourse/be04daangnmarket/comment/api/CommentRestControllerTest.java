@@ -164,6 +164,8 @@ class CommentRestControllerTest {
         //given
         Long commentId = 1L;
         CommentDto.CommentResponse mockResponse = new CommentDto.CommentResponse(1L, 1L, "username", 1L, "댓글", null, LocalDateTime.now(), LocalDateTime.now());
+        given(commentService.getLastModified(commentId))
+                .willReturn(LocalDateTime.now());
         given(commentService.getDetail(commentId))
                 .willReturn(mockResponse);
 
@@ -0,0 +1,98 @@
+package com.devcourse.be04daangnmarket.comment.application;
+
+import com.devcourse.be04daangnmarket.comment.domain.Comment;
+import com.devcourse.be04daangnmarket.common.constant.Status;
+import com.devcourse.be04daangnmarket.common.cursor.CursorCodec;
+import com.devcourse.be04daangnmarket.common.image.ImageIOService;
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.image.application.ImageService;
+import com.devcourse.be04daangnmarket.image.domain.Image;
+import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
+import com.devcourse.be04daangnmarket.member.application.MemberService;
+import com.devcourse.be04daangnmarket.member.application.ProfileService;
+import com.devcourse.be04daangnmarket.member.domain.Member;
+import com.devcourse.be04daangnmarket.post.application.PostService;
+import com.devcourse.be04daangnmarket.post.domain.Post;
+import com.devcourse.be04daangnmarket.post.domain.constant.Category;
+import com.devcourse.be04daangnmarket.post.domain.constant.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CommentService.class, ImageService.class})
+class CommentServiceDeleteTest {
+    private static final int REPLY_COUNT = 3;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockBean
+    private ImageIOService imageIOService;
+
+    @MockBean
+    private PostService postService;
+
+    @MockBean
+    private MemberService memberService;
+
+    @MockBean
+    private ProfileService profileService;
+
+    @MockBean
+    private CursorCodec cursorCodec;
+
+    @Test
+    @DisplayName("그룹 댓글을 삭제하면 같은 그룹의 댓글과 이미지가 모두 삭제 상태가 된다")
+    void deleteGroupCommentTest() {
+        // given
+        Member member = em.persist(new Member("010-1111-1111", "sunil13@naver.com", "11111111"));
+        Post post = em.persist(new Post(1L, "제목", "내용", 100, TransactionType.SALE, Category.DIGITAL_DEVICES));
+        Comment groupComment = em.persist(new Comment("댓글", member, post, 1));
+        List<Long> commentIds = new ArrayList<>(List.of(groupComment.getId()));
+
+        for (int seq = 0; seq < REPLY_COUNT; seq++) {
+            Comment reply = new Comment("대댓글" + seq, member, post, 1);
+            reply.addSeq(seq);
+            commentIds.add(em.persist(reply).getId());
+        }
+
+        for (Long commentId : commentIds) {
+            em.persist(new Image("test", Type.PNG, "images/" + commentId + ".png", DomainName.COMMENT, commentId));
+        }
+
+        em.flush();
+        em.clear();
+
+        // when
+        commentService.delete(groupComment.getId());
+        em.flush();
+        em.clear();
+
+        // then
+        for (Long commentId : commentIds) {
+            assertEquals(Status.DELETED, em.find(Comment.class, commentId).getStatus());
+        }
+
+        List<Image> images = em.getEntityManager()
+                .createQuery("SELECT i FROM Image i WHERE i.domainName = :domainName", Image.class)
+                .setParameter("domainName", DomainName.COMMENT)
+                .getResultList();
+        images.forEach(image -> assertEquals(Status.DELETED, image.getStatus()));
+        assertEquals(commentIds.size(), images.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.devcourse.be04daangnmarket.common.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedExecutorsTest {
+    private MeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드에서 작업을 실행한다")
+    void callerRunsWhenSaturatedTest() throws Exception {
+        executor = saturated(RejectionPolicy.CALLER_RUNS);
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        assertEquals(Thread.currentThread(), runner.get());
+        assertEquals(1.0, rejectedCount(RejectionPolicy.CALLER_RUNS));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 작업을 버리고 거절 횟수를 기록한다")
+    void discardWhenSaturatedTest() throws Exception {
+        executor = saturated(RejectionPolicy.DISCARD);
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        assertNull(runner.get());
+        assertEquals(1.0, rejectedCount(RejectionPolicy.DISCARD));
+    }
+
+    private ThreadPoolTaskExecutor saturated(RejectionPolicy rejectionPolicy) throws InterruptedException {
+        AsyncExecutorProperties.Pool pool = new AsyncExecutorProperties.Pool();
+        pool.setCoreSize(1);
+        pool.setMaxSize(1);
+        pool.setQueueCapacity(1);
+
+        ThreadPoolTaskExecutor created = BoundedExecutors.create("test", pool, rejectionPolicy, meterRegistry);
+        created.initialize();
+
+        CountDownLatch started = new CountDownLatch(1);
+        created.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        created.execute(() -> await(release));
+
+        return created;
+    }
+
+    private double rejectedCount(RejectionPolicy rejectionPolicy) {
+        return meterRegistry.get("executor.rejected")
+                .tag("name", "test")
+                .tag("policy", rejectionPolicy.name())
+                .counter()
+                .count();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
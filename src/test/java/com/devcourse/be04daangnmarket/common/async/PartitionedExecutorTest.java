@@ -0,0 +1,44 @@
+package com.devcourse.be04daangnmarket.common.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedExecutorTest {
+    private static final int TASKS = 200;
+
+    @Test
+    @DisplayName("같은 키의 작업은 큐가 가득 차도 제출한 순서대로 실행한다")
+    void keepOrderPerKeyTest() throws Exception {
+        AsyncExecutorProperties.Pool pool = new AsyncExecutorProperties.Pool();
+        pool.setCoreSize(4);
+        pool.setQueueCapacity(2);
+        PartitionedExecutor executor = BoundedExecutors.createPartitioned("test", pool, new SimpleMeterRegistry());
+        executor.afterPropertiesSet();
+
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(TASKS);
+
+        for (int i = 0; i < TASKS; i++) {
+            int sequence = i;
+            executor.execute(1L, () -> {
+                executed.add(sequence);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, TASKS).boxed().toList(), executed);
+
+        executor.destroy();
+    }
+}
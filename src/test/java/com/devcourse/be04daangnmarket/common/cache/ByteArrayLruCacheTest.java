@@ -0,0 +1,51 @@
+package com.devcourse.be04daangnmarket.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ByteArrayLruCacheTest {
+    @Test
+    @DisplayName("전체 바이트 수가 한도를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void evictLeastRecentlyUsedTest() {
+        ByteArrayLruCache cache = new ByteArrayLruCache(10);
+
+        cache.put("first", new byte[4]);
+        cache.put("second", new byte[4]);
+        cache.get("first");
+        cache.put("third", new byte[4]);
+
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertNotNull(cache.get("third"));
+        assertEquals(8, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("제거한 항목은 조회되지 않고 크기에서도 빠진다")
+    void removeTest() {
+        ByteArrayLruCache cache = new ByteArrayLruCache(10);
+
+        cache.put("first", new byte[4]);
+        cache.put("second", new byte[4]);
+        cache.remove("first");
+
+        assertNull(cache.get("first"));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    @DisplayName("한도보다 큰 항목은 저장하지 않는다")
+    void skipOversizedEntryTest() {
+        ByteArrayLruCache cache = new ByteArrayLruCache(10);
+
+        cache.put("large", new byte[11]);
+
+        assertNull(cache.get("large"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,96 @@
+package com.devcourse.be04daangnmarket.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiskLruCacheTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 사용되지 않은 파일을 삭제한다")
+    void evictLeastRecentlyUsedTest() throws IOException {
+        DiskLruCache cache = new DiskLruCache(directory, 20, Duration.ZERO, Clock.systemUTC());
+
+        cache.put("first", outputStream -> outputStream.write(new byte[10]));
+        cache.put("second", outputStream -> outputStream.write(new byte[10]));
+        cache.get("first");
+        cache.put("third", outputStream -> outputStream.write(new byte[10]));
+
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertFalse(Files.exists(directory.resolve("second")));
+        assertEquals(20, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("재시작 시 디렉터리에 남은 파일을 다시 불러온다")
+    void restoreFromDirectoryTest() throws IOException {
+        new DiskLruCache(directory, 100).put("first", outputStream -> outputStream.write(new byte[10]));
+
+        DiskLruCache restored = new DiskLruCache(directory, 100);
+
+        assertNotNull(restored.get("first"));
+        assertEquals(10, restored.size());
+    }
+
+    @Test
+    @DisplayName("내보낸 파일은 삭제 유예 시간이 지난 뒤에 지운다")
+    void deferDeleteOfEvictedFileTest() throws IOException {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        DiskLruCache cache = new DiskLruCache(directory, 10, Duration.ofSeconds(30), clock);
+
+        cache.put("first", outputStream -> outputStream.write(new byte[10]));
+        Path first = cache.get("first");
+        cache.put("second", outputStream -> outputStream.write(new byte[10]));
+
+        assertNull(cache.get("first"));
+        assertTrue(Files.exists(first));
+
+        clock.instant = clock.instant.plusSeconds(31);
+        cache.put("third", outputStream -> outputStream.write(new byte[10]));
+
+        assertFalse(Files.exists(first));
+        assertTrue(Files.exists(directory.resolve("second")));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
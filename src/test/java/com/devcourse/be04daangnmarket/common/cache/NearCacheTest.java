@@ -0,0 +1,40 @@
+package com.devcourse.be04daangnmarket.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NearCacheTest {
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void evictLeastRecentlyUsedTest() {
+        NearCache<Long, String> cache = new NearCache<>(2, Duration.ofMinutes(1), Clock.systemUTC());
+
+        cache.put(1L, "first");
+        cache.put(2L, "second");
+        cache.get(1L);
+        cache.put(3L, "third");
+
+        assertEquals("first", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("third", cache.get(3L));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않는다")
+    void expireAfterTtlTest() {
+        NearCache<Long, String> cache = new NearCache<>(2, Duration.ZERO, Clock.systemUTC());
+
+        cache.put(1L, "first");
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+}
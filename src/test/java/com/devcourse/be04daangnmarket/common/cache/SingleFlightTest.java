@@ -0,0 +1,79 @@
+package com.devcourse.be04daangnmarket.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+    private static final int CALLERS = 50;
+
+    @Test
+    @DisplayName("같은 키를 동시에 요청하면 한 번만 로딩한다")
+    void coalesceConcurrentLoadsTest() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            started.countDown();
+            loads.incrementAndGet();
+            await(release);
+
+            return "post";
+        }));
+        started.await();
+
+        List<Future<String>> followers = new ArrayList<>();
+
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.load(1L, () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+
+        Thread.sleep(100);
+        release.countDown();
+
+        assertEquals("post", leader.get());
+
+        for (Future<String> follower : followers) {
+            assertEquals("post", follower.get());
+        }
+
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로딩 중 발생한 예외는 원래 타입으로 전파되고 다음 요청은 다시 로딩한다")
+    void propagateFailureTest() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        assertThrows(NoSuchElementException.class, () -> singleFlight.load(1L, () -> {
+            throw new NoSuchElementException();
+        }));
+        assertEquals("post", singleFlight.load(1L, () -> "post"));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
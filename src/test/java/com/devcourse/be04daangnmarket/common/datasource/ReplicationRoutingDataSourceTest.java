@@ -0,0 +1,124 @@
+package com.devcourse.be04daangnmarket.common.datasource;
+
+import com.devcourse.be04daangnmarket.common.auth.User;
+import com.devcourse.be04daangnmarket.member.domain.Member;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationRoutingDataSourceTest {
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicationRoutingDataSource routingDataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = createNode("primary");
+        replica = createNode("replica");
+        meterRegistry = new SimpleMeterRegistry();
+
+        RecentWriteTracker recentWriteTracker = new RecentWriteTracker(Duration.ofMinutes(1), Clock.systemUTC());
+        routingDataSource = new ReplicationRoutingDataSource(primary, List.of(replica), recentWriteTracker, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routingDataSource.close();
+        primary.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅된다")
+    void readOnlyTransactionRoutesToReplicaTest() {
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+        assertEquals(1, meterRegistry.get("datasource.routing").tag("target", "replica-0").counter().count());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 라우팅된다")
+    void writeTransactionRoutesToPrimaryTest() {
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("자신이 쓴 직후의 읽기는 프라이머리로 라우팅된다")
+    void readYourWritesTest() {
+        login(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertEquals("primary", readTransaction.execute(status -> currentNode()));
+
+        login(2L);
+
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("프라이머리 읽기로 지정한 읽기 전용 트랜잭션은 프라이머리로 라우팅된다")
+    void readFromPrimaryTest() {
+        login(1L);
+
+        assertEquals("primary", readTransaction.execute(status ->
+                ReplicationRoutingDataSource.readFromPrimary(this::currentNode)));
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void login(Long memberId) {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(memberId);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new User(member), null, Collections.emptyList())
+        );
+    }
+
+    private HikariDataSource createNode(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS node");
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+
+        return dataSource;
+    }
+}
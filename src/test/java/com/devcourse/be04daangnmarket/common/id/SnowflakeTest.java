@@ -0,0 +1,86 @@
+package com.devcourse.be04daangnmarket.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeTest {
+    private static final int ID_COUNT = 10_000;
+
+    @Test
+    @DisplayName("발급된 아이디는 유일하고 단조 증가한다")
+    void uniqueAndMonotonicTest() {
+        Snowflake snowflake = new Snowflake(1, Clock.systemUTC());
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+
+        for (int i = 0; i < ID_COUNT; i++) {
+            long id = snowflake.nextId();
+
+            assertTrue(id > previous);
+            assertTrue(id < 1L << 53);
+            ids.add(id);
+            previous = id;
+        }
+
+        assertEquals(ID_COUNT, ids.size());
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가더라도 아이디는 감소하지 않는다")
+    void clockMovesBackwardTest() {
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        MutableClock clock = new MutableClock(now);
+        Snowflake snowflake = new Snowflake(1, clock);
+        long first = snowflake.nextId();
+
+        clock.instant = now.minusSeconds(1);
+        long second = snowflake.nextId();
+
+        assertEquals(now.toEpochMilli(), Snowflake.timestampOf(first));
+        assertTrue(second > first);
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에도 다른 아이디를 발급한다")
+    void nodeUniqueTest() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+        assertNotEquals(new Snowflake(1, clock).nextId(), new Snowflake(2, clock).nextId());
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(Snowflake.MAX_NODE_ID + 1, clock));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
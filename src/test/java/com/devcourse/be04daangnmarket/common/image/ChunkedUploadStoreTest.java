@@ -0,0 +1,89 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedUploadStoreTest {
+    private static final String UPLOAD_ID = "upload-id";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("순서와 무관하게 오프셋에 기록한 청크를 합쳐 이미지로 저장한다")
+    void writeChunksOutOfOrderTest() throws IOException {
+        ImageStorageLayout layout = new ImageStorageLayout(Map.of(directory, 1));
+        ChunkedUploadStore store = new ChunkedUploadStore(layout, Duration.ofHours(1), false);
+        byte[] png = encode();
+        int chunkSize = png.length / 3 + 1;
+
+        store.allocate(UPLOAD_ID, png.length);
+        for (int offset = (png.length - 1) / chunkSize * chunkSize; offset >= 0; offset -= chunkSize) {
+            byte[] chunk = Arrays.copyOfRange(png, offset, Math.min(offset + chunkSize, png.length));
+            store.write(UPLOAD_ID, offset, chunk.length, new ByteArrayInputStream(chunk));
+        }
+
+        ImageDto.ImageDetail imageDetail = store.complete(UPLOAD_ID, "origin.png");
+
+        assertEquals("origin.png", imageDetail.originName());
+        assertEquals(Type.PNG, imageDetail.type());
+        assertArrayEquals(png, Files.readAllBytes(layout.resolve(imageDetail.uniqueName())));
+    }
+
+    @Test
+    @DisplayName("선언한 길이보다 짧은 청크는 거절한다")
+    void rejectShortChunkTest() {
+        ChunkedUploadStore store = new ChunkedUploadStore(new ImageStorageLayout(Map.of(directory, 1)), Duration.ofHours(1), false);
+        store.allocate(UPLOAD_ID, 10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> store.write(UPLOAD_ID, 0, 10, new ByteArrayInputStream(new byte[4])));
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 업로드 파일만 정리한다")
+    void purgeExpiredTest() throws IOException {
+        ImageStorageLayout layout = new ImageStorageLayout(Map.of(directory, 1));
+        ChunkedUploadStore store = new ChunkedUploadStore(layout, Duration.ofHours(1), false);
+        store.allocate("expired", 10);
+        store.allocate("active", 10);
+
+        Path uploads = layout.stagingDirectory().resolve("uploads");
+        Files.setLastModifiedTime(uploads.resolve("expired.part"), FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        store.purgeExpired();
+
+        assertFalse(Files.exists(uploads.resolve("expired.part")));
+        assertTrue(Files.exists(uploads.resolve("active.part")));
+    }
+
+    private byte[] encode() throws IOException {
+        BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,57 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import com.devcourse.be04daangnmarket.common.image.dto.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class ImageResizerTest {
+    @Test
+    @DisplayName("긴 변이 최대 크기에 맞도록 비율을 유지하며 축소한다")
+    void fitWithinKeepsAspectRatioTest() {
+        BufferedImage source = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageResizer.fitWithin(source, ImageVariant.THUMBNAIL.getMaxSize());
+
+        assertEquals(240, resized.getWidth());
+        assertEquals(180, resized.getHeight());
+    }
+
+    @Test
+    @DisplayName("최대 크기보다 작은 이미지는 확대하지 않는다")
+    void fitWithinDoesNotUpscaleTest() {
+        BufferedImage source = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageResizer.fitWithin(source, ImageVariant.MEDIUM.getMaxSize());
+
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+    }
+
+    @Test
+    @DisplayName("축소한 이미지를 JPEG로 기록한다")
+    void writeJpegTest() throws IOException {
+        BufferedImage resized = ImageResizer.fitWithin(new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB), 240);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ImageResizer.writeJpeg(resized, outputStream);
+
+        BufferedImage written = ImageIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertNotNull(written);
+        assertEquals(240, written.getWidth());
+    }
+
+    @Test
+    @DisplayName("변형 파일 이름은 원본 이름에 접미사와 jpg 확장자를 붙인다")
+    void variantFileNameTest() {
+        assertEquals("uuid_thumb.jpg", ImageVariant.THUMBNAIL.fileNameOf("uuid.PNG"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageStorageLayoutTest {
+    private static final int FILE_COUNT = 10000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("파일은 두 단계 해시 디렉터리 아래에 놓이고 변형 이미지는 원본과 같은 디렉터리에 놓인다")
+    void shardedPathTest() {
+        ImageStorageLayout layout = new ImageStorageLayout(Map.of(directory.resolve("a"), 1));
+
+        Path original = layout.resolve("abcdef.PNG");
+        Path thumbnail = layout.resolve("abcdef_thumb.jpg");
+
+        assertEquals(3, directory.resolve("a").relativize(original).getNameCount());
+        assertEquals(original.getParent(), thumbnail.getParent());
+    }
+
+    @Test
+    @DisplayName("가중치에 비례해 볼륨에 분산하고 볼륨 추가 시 일부 파일만 이동한다")
+    void weightedConsistentHashingTest() {
+        Path first = directory.resolve("first");
+        Path second = directory.resolve("second");
+        Path third = directory.resolve("third");
+        List<String> fileNames = IntStream.range(0, FILE_COUNT)
+                .mapToObj(i -> UUID.randomUUID() + ".PNG")
+                .toList();
+
+        Map<Path, Integer> volumes = new LinkedHashMap<>();
+        volumes.put(first, 1);
+        volumes.put(second, 3);
+        ImageStorageLayout before = new ImageStorageLayout(volumes);
+
+        long onSecond = fileNames.stream()
+                .filter(fileName -> before.resolve(fileName).startsWith(second))
+                .count();
+        assertTrue(onSecond > FILE_COUNT * 0.65 && onSecond < FILE_COUNT * 0.85);
+
+        volumes.put(third, 1);
+        ImageStorageLayout after = new ImageStorageLayout(volumes);
+
+        long moved = fileNames.stream()
+                .filter(fileName -> !before.resolve(fileName).equals(after.resolve(fileName)))
+                .count();
+        long movedToThird = fileNames.stream()
+                .filter(fileName -> after.resolve(fileName).startsWith(third))
+                .count();
+
+        assertEquals(movedToThird, moved);
+        assertTrue(moved < FILE_COUNT * 0.3);
+    }
+
+    @Test
+    @DisplayName("기존 평면 경로의 파일을 찾고 재배치 시 해시 경로로 옮긴다")
+    void locateAndRebalanceLegacyFileTest() throws IOException {
+        Path volume = directory.resolve("a");
+        ImageStorageLayout layout = new ImageStorageLayout(Map.of(volume, 1));
+        Path legacy = Files.write(volume.resolve("legacy.PNG"), new byte[]{1, 2, 3});
+
+        assertEquals(legacy, layout.locate("legacy.PNG"));
+
+        assertEquals(1, layout.rebalance());
+        assertEquals(layout.resolve("legacy.PNG"), layout.locate("legacy.PNG"));
+        assertTrue(Files.exists(layout.resolve("legacy.PNG")));
+    }
+}
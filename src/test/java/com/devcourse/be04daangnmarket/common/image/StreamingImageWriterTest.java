@@ -0,0 +1,113 @@
+package com.devcourse.be04daangnmarket.common.image;
+
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.image.exception.FileUploadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingImageWriterTest {
+    @TempDir
+    Path directory;
+
+    private ImageStorageLayout layout() {
+        return new ImageStorageLayout(Map.of(directory, 1));
+    }
+
+    @Test
+    @DisplayName("스트림의 시그니처로 이미지 타입을 판별하고 내용 해시 이름으로 기록한다")
+    void storeFromStreamTest() throws IOException {
+        byte[] png = encode("png");
+
+        StreamingImageWriter writer = StreamingImageWriter.open(new ByteArrayInputStream(png));
+        ImageStorageLayout layout = layout();
+        StreamingImageWriter.StoredImage stored = writer.store(layout, false);
+
+        assertEquals(Type.PNG, writer.getType());
+        assertTrue(stored.created());
+        assertEquals(sha256(png) + ".PNG", stored.fileName());
+        assertArrayEquals(png, Files.readAllBytes(layout.resolve(stored.fileName())));
+    }
+
+    @Test
+    @DisplayName("파일 기반 스트림은 파일 채널 간 전송으로 기록한다")
+    void storeFromFileTest() throws IOException {
+        byte[] jpeg = encode("jpeg");
+        Path source = Files.write(directory.resolve("upload.part"), jpeg);
+
+        try (FileInputStream inputStream = new FileInputStream(source.toFile())) {
+            ImageStorageLayout layout = layout();
+            StreamingImageWriter writer = StreamingImageWriter.open(inputStream);
+            StreamingImageWriter.StoredImage stored = writer.store(layout, true);
+
+            assertEquals(Type.JPEG, writer.getType());
+            assertArrayEquals(jpeg, Files.readAllBytes(layout.resolve(stored.fileName())));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 내용을 다시 올리면 파일을 새로 만들지 않고 기존 이름을 돌려준다")
+    void deduplicateSameContentTest() throws IOException {
+        byte[] png = encode("png");
+        Path source = Files.write(directory.resolve("upload.part"), png);
+        ImageStorageLayout layout = layout();
+
+        StreamingImageWriter.StoredImage first = StreamingImageWriter.open(new ByteArrayInputStream(png))
+                .store(layout, false);
+
+        try (FileInputStream inputStream = new FileInputStream(source.toFile())) {
+            StreamingImageWriter.StoredImage second = StreamingImageWriter.open(inputStream).store(layout, false);
+
+            assertFalse(second.created());
+            assertEquals(first.fileName(), second.fileName());
+        }
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("이미지 시그니처가 아니면 파일을 만들지 않고 예외를 던진다")
+    void rejectNonImageTest() {
+        byte[] text = "<script>alert(1)</script>".getBytes();
+
+        assertThrows(FileUploadException.class, () -> StreamingImageWriter.open(new ByteArrayInputStream(text)));
+        assertEquals(0, directory.toFile().list().length);
+    }
+
+    private byte[] encode(String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), format, outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+    private String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
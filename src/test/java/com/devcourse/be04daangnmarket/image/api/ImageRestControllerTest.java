@@ -0,0 +1,100 @@
+package com.devcourse.be04daangnmarket.image.api;
+
+import com.devcourse.be04daangnmarket.common.config.SecurityConfig;
+import com.devcourse.be04daangnmarket.common.image.ImageFileLoader;
+import com.devcourse.be04daangnmarket.common.image.ResizedImageStore;
+import com.devcourse.be04daangnmarket.common.image.dto.ImageFile;
+import com.devcourse.be04daangnmarket.common.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ImageRestController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@Import(SecurityConfig.class)
+class ImageRestControllerTest {
+    private static final String NAME = "0123abcd.PNG";
+    private static final byte[] CONTENT = "0123456789".getBytes();
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private ResizedImageStore resizedImageStore;
+
+    @MockBean
+    private ImageFileLoader imageFileLoader;
+
+    @Test
+    @DisplayName("원본 이미지는 변경되지 않는 캐시 헤더와 ETag를 함께 응답한다")
+    void getImageTest() throws Exception {
+        when(imageFileLoader.load(NAME)).thenReturn(new ImageFile(NAME, null, CONTENT.length, CONTENT));
+
+        mockMvc.perform(get("/images/{name}", NAME))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "image/png"))
+                .andExpect(header().string("ETag", "\"" + NAME + "\""))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 파일을 읽지 않고 304를 응답한다")
+    void getImageNotModifiedTest() throws Exception {
+        mockMvc.perform(get("/images/{name}", NAME)
+                        .header("If-None-Match", "\"" + NAME + "\""))
+                .andExpect(status().isNotModified());
+
+        verify(imageFileLoader, never()).load(anyString());
+    }
+
+    @Test
+    @DisplayName("ETag가 일치해도 파일이 없으면 404를 응답한다")
+    void getDeletedImageNotFoundTest() throws Exception {
+        doThrow(new NoSuchElementException()).when(imageFileLoader).ensureExists(NAME);
+
+        mockMvc.perform(get("/images/{name}", NAME)
+                        .header("If-None-Match", "\"" + NAME + "\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Range 요청이면 요청한 구간만 206으로 응답한다")
+    void getImageRangeTest() throws Exception {
+        Path file = Files.write(directory.resolve(NAME), CONTENT);
+        when(imageFileLoader.load(NAME)).thenReturn(new ImageFile(NAME, file, CONTENT.length, null));
+
+        mockMvc.perform(get("/images/{name}", NAME)
+                        .header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes()));
+    }
+}
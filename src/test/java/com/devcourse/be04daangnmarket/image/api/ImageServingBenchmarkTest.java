@@ -0,0 +1,158 @@
+package com.devcourse.be04daangnmarket.image.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ImageServingBenchmarkTest {
+    private static final int REQUESTS = 500;
+    private static final int LARGE_FILE_SIZE = 2 * 1024 * 1024;
+    private static final int SMALL_FILE_SIZE = 32 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final ExecutorService drainer = Executors.newSingleThreadExecutor();
+    private ServerSocketChannel server;
+    private SocketChannel client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = ServerSocketChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel peer = server.accept();
+
+        drainer.submit(() -> {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+
+            try (peer) {
+                while (peer.read(buffer) >= 0) {
+                    buffer.clear();
+                }
+            }
+
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.close();
+        drainer.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("이미지 전송 방식별 처리량과 요청당 CPU 시간")
+    void servingThroughputTest() throws IOException {
+        Path large = write("large.PNG", LARGE_FILE_SIZE);
+        Path small = write("small.PNG", SMALL_FILE_SIZE);
+        byte[] cachedSmall = Files.readAllBytes(small);
+
+        Result streamLarge = measure(LARGE_FILE_SIZE, () -> streamCopy(large));
+        Result sendfileLarge = measure(LARGE_FILE_SIZE, () -> sendfile(large));
+        Result streamSmall = measure(SMALL_FILE_SIZE, () -> streamCopy(small));
+        Result memorySmall = measure(SMALL_FILE_SIZE, () -> writeAll(ByteBuffer.wrap(cachedSmall)));
+
+        System.out.printf("large stream copy : %s%n", streamLarge);
+        System.out.printf("large sendfile    : %s%n", sendfileLarge);
+        System.out.printf("small stream copy : %s%n", streamSmall);
+        System.out.printf("small memory      : %s%n", memorySmall);
+
+        assertTrue(sendfileLarge.cpuNanosPerRequest() < streamLarge.cpuNanosPerRequest());
+        assertTrue(memorySmall.cpuNanosPerRequest() < streamSmall.cpuNanosPerRequest());
+    }
+
+    private Path write(String name, int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+
+        return Files.write(directory.resolve(name), content);
+    }
+
+    private void streamCopy(Path file) throws IOException {
+        OutputStream outputStream = Channels.newOutputStream(client);
+
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void sendfile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            long size = channel.size();
+
+            while (position < size) {
+                position += channel.transferTo(position, size - position, client);
+            }
+        }
+    }
+
+    private void writeAll(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            client.write(buffer);
+        }
+    }
+
+    private Result measure(int fileSize, Transfer transfer) throws IOException {
+        for (int i = 0; i < REQUESTS / 10; i++) {
+            transfer.run();
+        }
+
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            transfer.run();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long cpu = threadMXBean.getCurrentThreadCpuTime() - cpuStart;
+
+        return new Result((double) fileSize * REQUESTS / elapsed * 1_000_000_000, cpu / REQUESTS);
+    }
+
+    @FunctionalInterface
+    private interface Transfer {
+        void run() throws IOException;
+    }
+
+    private record Result(double bytesPerSecond, long cpuNanosPerRequest) {
+        @Override
+        public String toString() {
+            return String.format("%8.1f MB/s, %7d ns CPU/request", bytesPerSecond / (1024 * 1024), cpuNanosPerRequest);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.devcourse.be04daangnmarket.image.api;
+
+import com.devcourse.be04daangnmarket.common.auth.User;
+import com.devcourse.be04daangnmarket.common.config.SecurityConfig;
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.common.jwt.JwtTokenProvider;
+import com.devcourse.be04daangnmarket.image.application.ImageUploadService;
+import com.devcourse.be04daangnmarket.image.dto.ImageUploadDto;
+import com.devcourse.be04daangnmarket.member.domain.Member;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ImageUploadRestController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@Import(SecurityConfig.class)
+class ImageUploadRestControllerTest {
+    private static final String UPLOAD_ID = "upload-id";
+    private static final long CHUNK_SIZE = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private ImageUploadService imageUploadService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        new User(new Member("phone", "email", "1234")),
+                        null,
+                        Collections.emptyList()
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("업로드를 시작하면 업로드 아이디와 받아야 할 오프셋을 응답한다")
+    void initTest() throws Exception {
+        ImageUploadDto.InitRequest request = new ImageUploadDto.InitRequest("origin.png", 6);
+        when(imageUploadService.init(null, "origin.png", 6))
+                .thenReturn(new ImageUploadDto.Status(UPLOAD_ID, 6, CHUNK_SIZE, List.of(0L, 4L)));
+
+        mockMvc.perform(post("/api/v1/images/uploads")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.uploadId").value(UPLOAD_ID))
+                .andExpect(jsonPath("$.missingOffsets[1]").value(4));
+    }
+
+    @Test
+    @DisplayName("청크는 본문 그대로 요청한 오프셋에 기록한다")
+    void writeChunkTest() throws Exception {
+        byte[] chunk = {1, 2, 3, 4};
+        when(imageUploadService.writeChunk(eq(null), eq(UPLOAD_ID), eq(4L), eq(4L), any(InputStream.class)))
+                .thenReturn(new ImageUploadDto.Status(UPLOAD_ID, 8, CHUNK_SIZE, List.of(0L)));
+
+        mockMvc.perform(put("/api/v1/images/uploads/{uploadId}/chunks/{offset}", UPLOAD_ID, 4)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(chunk))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missingOffsets[0]").value(0));
+
+        verify(imageUploadService).writeChunk(eq(null), eq(UPLOAD_ID), eq(4L), eq(4L), any(InputStream.class));
+    }
+
+    @Test
+    @DisplayName("업로드를 완료하면 저장된 이미지 정보를 응답한다")
+    void completeTest() throws Exception {
+        when(imageUploadService.complete(null, UPLOAD_ID))
+                .thenReturn(new ImageUploadDto.CompleteResponse(UPLOAD_ID, "origin.png", "abcd.PNG", Type.PNG));
+
+        mockMvc.perform(post("/api/v1/images/uploads/{uploadId}/complete", UPLOAD_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uniqueName").value("abcd.PNG"))
+                .andExpect(jsonPath("$.type").value("PNG"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.image.domain.Image;
+import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
+import com.devcourse.be04daangnmarket.image.repository.ImageRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ImageService.class)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ImageBatchBenchmarkTest {
+    private static final int IMAGE_COUNT = 10;
+    private static final Long ROW_BY_ROW_POST_ID = 1L;
+    private static final Long BATCHED_POST_ID = 2L;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<ImageDto.ImageDetail> imageDetails;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        imageDetails = IntStream.range(0, IMAGE_COUNT)
+                .mapToObj(i -> new ImageDto.ImageDetail("image" + i, "uniqueName-image" + i + ".png", Type.PNG))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("이미지 10장 게시글의 저장과 삭제 시 실행되는 SQL 문 수")
+    void statementsPerTenImagePostTest() {
+        long rowByRowSave = countStatements(() -> imageDetails.forEach(imageDetail -> {
+            imageRepository.save(new Image(imageDetail.originName(), imageDetail.type(),
+                    "images/" + imageDetail.uniqueName(), DomainName.POST, ROW_BY_ROW_POST_ID));
+            em.flush();
+        }));
+        long batchedSave = countStatements(() -> imageService.save(imageDetails, DomainName.POST, BATCHED_POST_ID));
+
+        long rowByRowDelete = countStatements(() -> imageRepository
+                .findAllByDomainNameAndDomainId(DomainName.POST, ROW_BY_ROW_POST_ID)
+                .forEach(Image::changeStatus));
+        long bulkDelete = countStatements(() -> imageService.deleteAllImages(DomainName.POST, BATCHED_POST_ID));
+
+        System.out.printf("save   row-by-row : %d statements%n", rowByRowSave);
+        System.out.printf("save   batched    : %d statements%n", batchedSave);
+        System.out.printf("delete row-by-row : %d statements%n", rowByRowDelete);
+        System.out.printf("delete bulk       : %d statements%n", bulkDelete);
+
+        assertTrue(batchedSave < rowByRowSave);
+        assertTrue(bulkDelete < rowByRowDelete);
+    }
+
+    private long countStatements(Runnable work) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        work.run();
+        em.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -5,18 +5,24 @@ import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
 import com.devcourse.be04daangnmarket.image.domain.Image;
 import com.devcourse.be04daangnmarket.common.image.dto.Type;
 import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
+import com.devcourse.be04daangnmarket.image.dto.ImageStoredEvent;
 import com.devcourse.be04daangnmarket.image.repository.ImageRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -28,6 +34,9 @@ class ImageServiceTest {
     @Mock
     private ImageRepository imageRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void 저장_성공() {
         //given
@@ -44,14 +53,15 @@ class ImageServiceTest {
                 domainName,
                 domainId);
 
-        given(imageRepository.save(any())).willReturn(image);
+        given(imageRepository.saveAll(anyList())).willReturn(List.of(image));
 
         //when
         List<String> responses = imageService.save(imageDetails, domainName, domainId);
 
         // then
         assertThat(responses.get(0)).isEqualTo(image.getPath());
-        verify(imageRepository, times(1)).save(any());
+        verify(imageRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(ImageStoredEvent.class));
     }
 
     @Test
@@ -60,23 +70,18 @@ class ImageServiceTest {
         DomainName domainName = DomainName.COMMENT;
         Long domainId = 1L;
 
-        Image image = new Image(
-                "test1",
-                Type.PNG,
-                "images/uniqueName-test1.png",
-                domainName,
-                domainId);
-        List<Image> imagePaths = List.of(image);
+        List<String> imagePaths = List.of("images/uniqueName-test1.png");
 
-        given(imageRepository.findAllByDomainNameAndDomainId(domainName, domainId))
+        given(imageRepository.findPathsByDomain(domainName, domainId, Status.ALIVE))
                 .willReturn(imagePaths);
 
         //when
         List<String> responses = imageService.getImages(domainName, domainId);
 
         // then
-        assertThat(responses.get(0)).isEqualTo(image.getPath());
-        verify(imageRepository, times(1)).findAllByDomainNameAndDomainId(domainName, domainId);
+        assertThat(responses).containsExactly("images/uniqueName-test1.png");
+        verify(imageRepository, times(1)).findPathsByDomain(domainName, domainId, Status.ALIVE);
+        verify(imageRepository, never()).findAllByDomainNameAndDomainId(domainName, domainId);
     }
 
     @Test
@@ -85,23 +90,12 @@ class ImageServiceTest {
         DomainName domainName = DomainName.COMMENT;
         Long domainId = 1L;
 
-        Image image = new Image(
-                "test1",
-                Type.PNG,
-                "images/uniqueName-test1.png",
-                domainName,
-                domainId);
-
-        List<Image> imagePaths = List.of(image);
-
-        given(imageRepository.findAllByDomainNameAndDomainId(domainName, domainId))
-                .willReturn(imagePaths);
-
         //when
         imageService.deleteAllImages(domainName, domainId);
 
         // then
-        assertThat(image.getStatus()).isEqualTo(Status.DELETED);
-        verify(imageRepository, times(1)).findAllByDomainNameAndDomainId(domainName, domainId);
+        verify(imageRepository, times(1))
+                .updateStatusByDomain(eq(domainName), eq(domainId), eq(Status.DELETED), any(LocalDateTime.class));
+        verify(imageRepository, never()).findAllByDomainNameAndDomainId(domainName, domainId);
     }
 }
@@ -0,0 +1,61 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.image.domain.Image;
+import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
+import com.devcourse.be04daangnmarket.image.repository.ImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ImageVariantSweeperTest {
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private ImageVariantPipeline imageVariantPipeline;
+    private ImageVariantSweeper sweeper;
+    private Long pendingId;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantPipeline = mock(ImageVariantPipeline.class);
+        sweeper = new ImageVariantSweeper(imageRepository, imageVariantPipeline, Runnable::run, null,
+                10, Duration.ZERO, Duration.ofHours(1));
+
+        pendingId = em.persist(new Image("pending", Type.PNG, "images/pending.PNG", DomainName.POST, 1L)).getId();
+        Long doneId = em.persist(new Image("done", Type.PNG, "images/done.PNG", DomainName.POST, 1L)).getId();
+        Image deleted = new Image("deleted", Type.PNG, "images/deleted.PNG", DomainName.POST, 2L);
+        deleted.changeStatus();
+        em.persist(deleted);
+        em.flush();
+
+        imageRepository.updateVariants(doneId, "images/done_thumb.jpg", "images/done_medium.jpg");
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("썸네일이 없는 이미지만 변환 작업을 다시 등록한다")
+    void requeuePendingTest() {
+        sweeper.requeuePending();
+
+        verify(imageVariantPipeline).generate(pendingId, "pending.PNG");
+        verify(imageVariantPipeline, times(1)).generate(anyLong(), anyString());
+    }
+}
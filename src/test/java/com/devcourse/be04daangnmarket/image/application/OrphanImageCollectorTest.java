@@ -0,0 +1,120 @@
+package com.devcourse.be04daangnmarket.image.application;
+
+import com.devcourse.be04daangnmarket.common.image.ImageFileLoader;
+import com.devcourse.be04daangnmarket.common.image.ImageStorageLayout;
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.image.domain.Image;
+import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
+import com.devcourse.be04daangnmarket.image.repository.ImageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrphanImageCollectorTest {
+    private static final String SHARED = "shared.PNG";
+    private static final String DELETED = "deleted.PNG";
+    private static final String UNKNOWN = "unknown.PNG";
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private ImageStorageLayout layout;
+    private SimpleMeterRegistry meterRegistry;
+    private ImageFileLoader imageFileLoader;
+    private OrphanImageCollector collector;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        layout = new ImageStorageLayout(Map.of(directory, 1));
+        meterRegistry = new SimpleMeterRegistry();
+        imageFileLoader = new ImageFileLoader(layout, meterRegistry, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64));
+        collector = new OrphanImageCollector(imageRepository, layout, imageFileLoader, null, meterRegistry, 1, 2, Duration.ZERO, 0, Duration.ZERO);
+
+        em.persist(new Image("alive", Type.PNG, "images/" + SHARED, DomainName.POST, 1L));
+        em.persist(deleted(new Image("deleted-shared", Type.PNG, "images/" + SHARED, DomainName.POST, 2L)));
+        em.persist(deleted(new Image("deleted", Type.PNG, "images/" + DELETED, DomainName.POST, 3L)));
+        em.flush();
+        em.clear();
+
+        for (String fileName : new String[]{SHARED, DELETED, "deleted_thumb.jpg", UNKNOWN, "ghost_thumb.jpg"}) {
+            Path file = layout.resolve(fileName);
+            Files.createDirectories(file.getParent());
+            Files.write(file, new byte[10]);
+        }
+    }
+
+    private Image deleted(Image image) {
+        image.changeStatus();
+
+        return image;
+    }
+
+    @Test
+    @DisplayName("삭제된 이미지 행을 지우고 더 이상 참조되지 않는 파일만 회수한다")
+    void sweepDeletedRowsTest() {
+        collector.sweepDeletedRows();
+
+        assertEquals(1, imageRepository.count());
+        assertTrue(Files.exists(layout.resolve(SHARED)));
+        assertFalse(Files.exists(layout.resolve(DELETED)));
+        assertFalse(Files.exists(layout.resolve("deleted_thumb.jpg")));
+        assertEquals(20, meterRegistry.get("image.gc.reclaimed").counter().count());
+    }
+
+    @Test
+    @DisplayName("회수한 파일은 메모리 캐시에서도 제거한다")
+    void evictReclaimedFileTest() {
+        imageFileLoader.load(DELETED);
+
+        collector.sweepDeletedRows();
+
+        assertThrows(NoSuchElementException.class, () -> imageFileLoader.load(DELETED));
+        assertEquals(10, imageFileLoader.load(SHARED).length());
+    }
+
+    @Test
+    @DisplayName("행이 없는 파일과 원본이 없는 변형 파일을 회수한다")
+    void reconcileFilesTest() {
+        collector.reconcileFiles();
+
+        assertTrue(Files.exists(layout.resolve(SHARED)));
+        assertTrue(Files.exists(layout.resolve(DELETED)));
+        assertFalse(Files.exists(layout.resolve(UNKNOWN)));
+        assertFalse(Files.exists(layout.resolve("ghost_thumb.jpg")));
+        assertEquals(2, meterRegistry.get("image.gc.deleted.files").counter().count());
+    }
+
+    @Test
+    @DisplayName("정리 유예 시간이 업로드 만료 시간보다 짧으면 생성에 실패한다")
+    void rejectGracePeriodShorterThanUploadExpiryTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OrphanImageCollector(
+                imageRepository, layout, imageFileLoader, null, meterRegistry, 1, 2, Duration.ofHours(1), 0, Duration.ofHours(24)));
+    }
+}
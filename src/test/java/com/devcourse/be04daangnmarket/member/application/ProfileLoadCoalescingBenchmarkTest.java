@@ -0,0 +1,101 @@
+package com.devcourse.be04daangnmarket.member.application;
+
+import com.devcourse.be04daangnmarket.member.domain.Profile;
+import com.devcourse.be04daangnmarket.member.repository.ProfileRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProfileService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ProfileLoadCoalescingBenchmarkTest {
+    private static final int CONCURRENT_READS = 1_000;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = profileRepository.save(new Profile(1L, "user", "region")).getMemberId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profileRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동일한 프로필 1,000건 동시 조회 시 DB 조회 횟수")
+    void databaseCallsPerThousandReadsTest() throws Exception {
+        long uncoalesced = countQueries(() -> profileService.getOne(memberId));
+        long coalesced = countQueries(() -> profileService.toProfile(memberId));
+
+        System.out.printf("uncoalesced : %,d queries / %,d reads%n", uncoalesced, CONCURRENT_READS);
+        System.out.printf("coalesced   : %,d queries / %,d reads%n", coalesced, CONCURRENT_READS);
+
+        assertTrue(coalesced < uncoalesced);
+    }
+
+    private long countQueries(Runnable read) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_READS);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_READS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        statistics.clear();
+
+        for (int i = 0; i < CONCURRENT_READS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                read.run();
+
+                return null;
+            }));
+        }
+
+        ready.await();
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,87 @@
+package com.devcourse.be04daangnmarket.member.application;
+
+import com.devcourse.be04daangnmarket.member.domain.Profile;
+import com.devcourse.be04daangnmarket.member.dto.ProfileDto;
+import com.devcourse.be04daangnmarket.member.dto.ProfileRegionChangedEvent;
+import com.devcourse.be04daangnmarket.member.repository.ProfileRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileServiceTest {
+    @InjectMocks
+    private ProfileService profileService;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("회원 아이디 목록으로 닉네임을 한 번에 조회한다")
+    void getUsernamesTest() {
+        List<Long> memberIds = List.of(1L, 2L, 1L);
+        when(profileRepository.findAllByMemberIdIn(memberIds)).thenReturn(List.of(
+                new Profile(1L, "first", "서울"),
+                new Profile(2L, "second", "부산")
+        ));
+
+        Map<Long, String> usernames = profileService.getUsernames(memberIds);
+
+        assertEquals(Map.of(1L, "first", 2L, "second"), usernames);
+    }
+
+    @Test
+    @DisplayName("프로필이 없는 회원이 있으면 닉네임 일괄 조회에 실패한다")
+    void getUsernamesWithMissingProfileTest() {
+        List<Long> memberIds = List.of(1L, 2L);
+        when(profileRepository.findAllByMemberIdIn(memberIds)).thenReturn(List.of(
+                new Profile(1L, "first", "서울")
+        ));
+
+        assertThrows(NoSuchElementException.class, () -> profileService.getUsernames(memberIds));
+    }
+
+    @Test
+    @DisplayName("닉네임을 그대로 두고 지역만 변경할 수 있다")
+    void updateRegionWithSameUsernameTest() {
+        Profile profile = new Profile(1L, "first", "서울");
+        when(profileRepository.findByMemberId(1L)).thenReturn(Optional.of(profile));
+
+        ProfileDto.Response response = profileService.update(1L, "first", "부산");
+
+        assertEquals("부산", profile.getRegion());
+        assertEquals("first", response.username());
+        verify(profileRepository, never()).findByUsername(any());
+        verify(eventPublisher).publishEvent(any(ProfileRegionChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("다른 회원이 사용 중인 닉네임으로는 변경할 수 없다")
+    void updateDuplicatedUsernameTest() {
+        Profile profile = new Profile(1L, "first", "서울");
+        when(profileRepository.findByMemberId(1L)).thenReturn(Optional.of(profile));
+        when(profileRepository.findByUsername("second")).thenReturn(Optional.of(new Profile(2L, "second", "부산")));
+
+        assertThrows(IllegalArgumentException.class, () -> profileService.update(1L, "second", "부산"));
+        assertEquals("서울", profile.getRegion());
+    }
+}
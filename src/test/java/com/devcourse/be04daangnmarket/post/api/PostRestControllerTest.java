@@ -7,6 +7,7 @@ import com.devcourse.be04daangnmarket.common.config.SecurityConfig;
 import com.devcourse.be04daangnmarket.common.image.ImageIOService;
 import com.devcourse.be04daangnmarket.common.image.LocalImageIOService;
 import com.devcourse.be04daangnmarket.common.jwt.JwtTokenProvider;
+import com.devcourse.be04daangnmarket.image.application.ImageUploadService;
 import com.devcourse.be04daangnmarket.member.domain.Member;
 import com.devcourse.be04daangnmarket.post.application.PostService;
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
@@ -24,7 +25,6 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -67,6 +67,9 @@ class PostRestControllerTest {
     @MockBean
     private ImageIOService imageUpload;
 
+    @MockBean
+    private ImageUploadService imageUploadService;
+
     @BeforeEach
     public void setup() {
         SecurityContextHolder.getContext().setAuthentication(
@@ -102,13 +105,16 @@ class PostRestControllerTest {
                 LocalDateTime.now()
         );
 
-        MockMultipartFile file = new MockMultipartFile(
-                "file",
-                "test-file.txt",
-                MediaType.TEXT_PLAIN_VALUE,
-                "This is a test file content".getBytes()
+        PostDto.CreateRequest request = new PostDto.CreateRequest(
+                "Keyboard",
+                "nice Keyboard",
+                100,
+                TransactionType.SALE,
+                Category.DIGITAL_DEVICES,
+                List.of("upload-id")
         );
 
+        when(imageUploadService.getCompletedImages(any(), eq(List.of("upload-id")))).thenReturn(new LinkedList<>());
         when(postService.create(
                 null,
                 "Keyboard",
@@ -120,13 +126,9 @@ class PostRestControllerTest {
         )).thenReturn(mockResponse);
 
         // when then
-        mockMvc.perform(MockMvcRequestBuilders.multipart("/api/v1/posts")
-                        .file(file)
-                        .param("title", "Keyboard")
-                        .param("description", "nice Keyboard")
-                        .param("price", "100")
-                        .param("transactionType", TransactionType.SALE.name())
-                        .param("category", Category.DIGITAL_DEVICES.name()))
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
                 .andExpect(MockMvcResultMatchers.status().isCreated())
                 .andExpect(jsonPath("$.title").value("Keyboard"));
     }
@@ -153,6 +155,7 @@ class PostRestControllerTest {
                 LocalDateTime.now()
         );
 
+        when(postService.getLastModified(postId)).thenReturn(LocalDateTime.now());
         when(postService.getPost(1L, null)).thenReturn(mockResponse);
 
         // when then
@@ -163,45 +166,61 @@ class PostRestControllerTest {
                 .andExpect(jsonPath("$.title").value("Keyboard"));
     }
 
+    @Test
+    @DisplayName("게시글이 변경되지 않았으면 본문 없이 304를 응답한다")
+    public void getPostNotModifiedTest() throws Exception {
+        // given
+        Long postId = 1L;
+        when(postService.getLastModified(postId)).thenReturn(LocalDateTime.now());
+
+        String eTag = mockMvc.perform(get("/api/v1/posts/{id}", postId))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        clearInvocations(postService);
+
+        // when then
+        mockMvc.perform(get("/api/v1/posts/{id}", postId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        verify(postService, never()).getPost(any(), any());
+    }
+
     @Test
     @DisplayName("게시글 전체 조회 REST API 성공")
     public void getAllPostTest() throws Exception {
         // given
-        PostDto.Response postResponse1 = new PostDto.Response(
+        PostDto.Summary postResponse1 = new PostDto.Summary(
                 1L,
                 1L,
                 "UserName",
                 "Keyboard",
-                "nice Keyboard",
                 100,
                 1000,
                 TransactionType.SALE.getDescription(),
                 Category.DIGITAL_DEVICES.getDescription(),
                 PostStatus.FOR_SALE.getDescription(),
                 null,
-                null,
                 LocalDateTime.now()
         );
 
-        PostDto.Response postResponse2 = new PostDto.Response(
+        PostDto.Summary postResponse2 = new PostDto.Summary(
                 1L,
                 1L,
                 "UserName",
                 "Keyboard",
-                "nice Keyboard",
                 100,
                 1000,
                 TransactionType.SALE.getDescription(),
                 Category.DIGITAL_DEVICES.getDescription(),
                 PostStatus.FOR_SALE.getDescription(),
                 null,
-                null,
                 LocalDateTime.now()
         );
-        List<PostDto.Response> fakeResponses = List.of(postResponse1, postResponse2);
+        List<PostDto.Summary> fakeResponses = List.of(postResponse1, postResponse2);
 
         Pageable pageable = PageRequest.of(0, 5, Sort.by("id").descending());
-        Page<PostDto.Response> responsePage = new PageImpl<>(fakeResponses, pageable, fakeResponses.size());
+        Page<PostDto.Summary> responsePage = new PageImpl<>(fakeResponses, pageable, fakeResponses.size());
 
         // when
         when(postService.getAllPost(pageable)).thenReturn(responsePage);
@@ -222,23 +241,21 @@ class PostRestControllerTest {
         Category category = Category.DIGITAL_DEVICES;
         PageRequest pageable = PageRequest.of(0, 5, Sort.by("id").descending());
 
-        PostDto.Response postResponse = new PostDto.Response(
+        PostDto.Summary postResponse = new PostDto.Summary(
                 1L,
                 1L,
                 "UserName",
                 "Keyboard",
-                "nice Keyboard",
                 100,
                 1000,
                 TransactionType.SALE.getDescription(),
                 Category.DIGITAL_DEVICES.getDescription(),
                 PostStatus.FOR_SALE.getDescription(),
                 null,
-                null,
                 LocalDateTime.now()
         );
 
-        List<PostDto.Response> mockResponses = List.of(postResponse);
+        List<PostDto.Summary> mockResponses = List.of(postResponse);
 
         when(postService.getPostByCategory(category, pageable)).thenReturn(new PageImpl<>(mockResponses));
 
@@ -248,7 +265,7 @@ class PostRestControllerTest {
                         .param("page", "0"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].title").value("Keyboard"))
-                .andExpect(jsonPath("$.content[0].description").value("nice Keyboard"));
+                .andExpect(jsonPath("$.content[0].price").value(100));
     }
 
     @Test
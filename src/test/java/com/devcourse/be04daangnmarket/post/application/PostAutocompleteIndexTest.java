@@ -0,0 +1,104 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class PostAutocompleteIndexTest {
+    @Mock
+    private PostRepository postRepository;
+
+    private PostAutocompleteIndex postAutocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        postAutocompleteIndex = new PostAutocompleteIndex(postRepository);
+        postAutocompleteIndex.index(1L, "키보드 팝니다", 10);
+        postAutocompleteIndex.index(2L, "키캡 세트", 30);
+        postAutocompleteIndex.index(3L, "키링", 20);
+        postAutocompleteIndex.index(4L, "마우스", 100);
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 키워드를 가중치 순으로 추천한다")
+    void suggestByPrefixTest() {
+        List<String> suggestions = postAutocompleteIndex.suggest("키", 10);
+
+        assertEquals(List.of("키캡", "키링", "키보드"), suggestions);
+    }
+
+    @Test
+    @DisplayName("초성으로 키워드를 추천한다")
+    void suggestByChosungTest() {
+        List<String> suggestions = postAutocompleteIndex.suggest("ㅋㅂ", 10);
+
+        assertEquals(List.of("키보드"), suggestions);
+    }
+
+    @Test
+    @DisplayName("검색 빈도가 가중치에 반영된다")
+    void recordSearchTest() {
+        for (int i = 0; i < 5; i++) {
+            postAutocompleteIndex.recordSearch("키보드");
+        }
+        postAutocompleteIndex.flush();
+
+        List<String> suggestions = postAutocompleteIndex.suggest("키", 1);
+
+        assertEquals(List.of("키보드"), suggestions);
+    }
+
+    @Test
+    @DisplayName("조회수는 모아 두었다가 flush 시점에 가중치에 반영된다")
+    void recordViewTest() {
+        for (int i = 0; i < 25; i++) {
+            postAutocompleteIndex.recordView(1L);
+        }
+
+        assertEquals(List.of("키캡"), postAutocompleteIndex.suggest("키", 1));
+
+        postAutocompleteIndex.flush();
+
+        assertEquals(List.of("키보드"), postAutocompleteIndex.suggest("키", 1));
+    }
+
+    @Test
+    @DisplayName("제목이 같은 게시글을 다시 색인해도 가중치가 늘지 않는다")
+    void reindexSameTitleTest() {
+        for (int i = 0; i < 25; i++) {
+            postAutocompleteIndex.index(1L, "키보드 팝니다");
+        }
+
+        assertEquals(List.of("키캡", "키링", "키보드"), postAutocompleteIndex.suggest("키", 10));
+    }
+
+    @Test
+    @DisplayName("삭제하거나 제목이 바뀐 게시글의 키워드는 추천하지 않는다")
+    void removeTest() {
+        postAutocompleteIndex.remove(2L);
+        postAutocompleteIndex.index(3L, "책상 팝니다");
+
+        assertEquals(List.of("키보드"), postAutocompleteIndex.suggest("키", 10));
+
+        postAutocompleteIndex.flush();
+
+        assertEquals(List.of("키보드"), postAutocompleteIndex.suggest("키", 10));
+        assertEquals(List.of("책상"), postAutocompleteIndex.suggest("책", 10));
+    }
+
+    @Test
+    @DisplayName("일치하는 키워드가 없으면 빈 목록을 반환한다")
+    void suggestEmptyTest() {
+        assertTrue(postAutocompleteIndex.suggest("책상", 10).isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchIndexTest {
+    @Mock
+    private PostRepository postRepository;
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex(postRepository);
+        postSearchIndex.index(1L, "기계식 키보드 팝니다", "거의 새 제품입니다");
+        postSearchIndex.index(2L, "무선 마우스", "키보드와 함께 쓰던 마우스입니다");
+        postSearchIndex.index(3L, "키보드 키보드 키캡 세트", "키보드 키캡");
+        postSearchIndex.index(4L, "책상", "원목 책상");
+    }
+
+    @Test
+    @DisplayName("키워드가 포함된 게시글을 관련도 순으로 검색한다")
+    void searchRankedTest() {
+        Page<Long> result = postSearchIndex.search("키보드", PageRequest.of(0, 10));
+
+        assertEquals(List.of(3L, 1L, 2L), result.getContent());
+        assertEquals(3, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("모든 검색어 토큰을 포함한 게시글만 검색한다")
+    void searchAllTermsTest() {
+        Page<Long> result = postSearchIndex.search("무선 키보드", PageRequest.of(0, 10));
+
+        assertEquals(List.of(2L), result.getContent());
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어로 그 글자를 포함한 게시글을 검색한다")
+    void searchSingleCharacterTest() {
+        postSearchIndex.index(5L, "중고책", "전공 서적");
+
+        assertEquals(List.of(4L, 5L), postSearchIndex.search("책", PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(2L), postSearchIndex.search("선", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    @DisplayName("게시글 수정 시 색인이 갱신된다")
+    void reindexTest() {
+        postSearchIndex.index(4L, "키보드 받침대", "원목");
+
+        assertTrue(postSearchIndex.search("책상", PageRequest.of(0, 10)).isEmpty());
+        assertTrue(postSearchIndex.search("받침대", PageRequest.of(0, 10)).getContent().contains(4L));
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 색인에서 제거된다")
+    void removeTest() {
+        postSearchIndex.remove(3L);
+
+        Page<Long> result = postSearchIndex.search("키보드", PageRequest.of(0, 10));
+
+        assertEquals(List.of(1L, 2L), result.getContent());
+    }
+
+    @Test
+    @DisplayName("검색 결과를 페이지 단위로 조회한다")
+    void searchPagingTest() {
+        Page<Long> result = postSearchIndex.search("키보드", PageRequest.of(1, 2));
+
+        assertEquals(List.of(2L), result.getContent());
+        assertEquals(3, result.getTotalElements());
+    }
+}
@@ -0,0 +1,122 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import com.devcourse.be04daangnmarket.common.cursor.CursorCodec;
+import com.devcourse.be04daangnmarket.common.image.dto.Type;
+import com.devcourse.be04daangnmarket.image.application.ImageService;
+import com.devcourse.be04daangnmarket.image.domain.Image;
+import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
+import com.devcourse.be04daangnmarket.member.application.ProfileService;
+import com.devcourse.be04daangnmarket.member.domain.Profile;
+import com.devcourse.be04daangnmarket.post.domain.Post;
+import com.devcourse.be04daangnmarket.post.domain.constant.Category;
+import com.devcourse.be04daangnmarket.post.domain.constant.TransactionType;
+import com.devcourse.be04daangnmarket.post.dto.PostDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostService.class, ImageService.class, ProfileService.class})
+class PostServiceQueryCountTest {
+    private static final int POST_COUNT = 20;
+    private static final long PAGE_QUERY_COUNT = 4;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private ViewDeduplicator viewDeduplicator;
+
+    @MockBean
+    private PostViewCounter postViewCounter;
+
+    @MockBean
+    private CursorCodec cursorCodec;
+
+    @MockBean
+    private PostSearchIndex postSearchIndex;
+
+    @MockBean
+    private PostAutocompleteIndex postAutocompleteIndex;
+
+    @MockBean
+    private PostRegionFeed postRegionFeed;
+
+    @MockBean
+    private PostResponseCache postResponseCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (long memberId = 1; memberId <= POST_COUNT; memberId++) {
+            em.persist(new Profile(memberId, "user" + memberId, "region"));
+
+            Post post = em.persist(new Post(memberId, "keyboard~!", "this keyboard is good", 100000,
+                    TransactionType.SALE, Category.DIGITAL_DEVICES));
+            em.persist(new Image("test1", Type.PNG, "images/uniqueName-test1.png", DomainName.POST, post.getId()));
+            em.persist(new Image("test2", Type.PNG, "images/uniqueName-test2.png", DomainName.POST, post.getId()));
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 페이지 크기와 무관하게 쿼리 수가 고정된다")
+    void getAllPostQueryCountTest() {
+        long smallPageQueryCount = countQueries(3);
+        long largePageQueryCount = countQueries(10);
+
+        assertEquals(PAGE_QUERY_COUNT, smallPageQueryCount);
+        assertEquals(smallPageQueryCount, largePageQueryCount);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 게시글 엔티티를 로딩하지 않는다")
+    void getAllPostWithoutEntityLoadTest() {
+        countQueries(10);
+
+        assertEquals(0, statistics.getEntityStatistics(Post.class.getName()).getLoadCount());
+    }
+
+    private long countQueries(int pageSize) {
+        em.clear();
+        statistics.clear();
+
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by("id").descending());
+        Page<PostDto.Summary> responses = postService.getAllPost(pageable);
+
+        assertEquals(pageSize, responses.getNumberOfElements());
+        responses.forEach(response -> {
+            assertNotNull(response.userName());
+            assertNotNull(response.imagePath());
+        });
+
+        return statistics.getPrepareStatementCount();
+    }
+}
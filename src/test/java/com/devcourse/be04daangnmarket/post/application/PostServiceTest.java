@@ -1,5 +1,6 @@
 package com.devcourse.be04daangnmarket.post.application;
 
+import com.devcourse.be04daangnmarket.common.cursor.CursorCodec;
 import com.devcourse.be04daangnmarket.common.image.LocalImageIOService;
 import com.devcourse.be04daangnmarket.common.image.dto.ImageDto;
 import com.devcourse.be04daangnmarket.common.image.dto.Type;
@@ -7,6 +8,7 @@ import com.devcourse.be04daangnmarket.common.jwt.JwtTokenProvider;
 import com.devcourse.be04daangnmarket.image.application.ImageService;
 import com.devcourse.be04daangnmarket.image.domain.constant.DomainName;
 import com.devcourse.be04daangnmarket.member.application.ProfileService;
+import com.devcourse.be04daangnmarket.member.domain.Profile;
 import com.devcourse.be04daangnmarket.member.dto.ProfileDto;
 import com.devcourse.be04daangnmarket.post.domain.Post;
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
@@ -14,23 +16,24 @@ import com.devcourse.be04daangnmarket.post.domain.constant.PostStatus;
 import com.devcourse.be04daangnmarket.post.domain.constant.TransactionType;
 import com.devcourse.be04daangnmarket.post.dto.PostDto;
 import com.devcourse.be04daangnmarket.post.repository.PostRepository;
+import com.devcourse.be04daangnmarket.post.repository.PostSummary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
 import org.springframework.test.context.TestPropertySource;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -54,10 +57,28 @@ class PostServiceTest {
     private LocalImageIOService imageUpload;
 
     @Mock
-    RedisTemplate<String, String> redisTemplate;
+    private ViewDeduplicator viewDeduplicator;
 
     @Mock
-    private SetOperations<String, String> setOperations;
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private CursorCodec cursorCodec;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostAutocompleteIndex postAutocompleteIndex;
+
+    @Mock
+    private PostRegionFeed postRegionFeed;
+
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
@@ -125,7 +146,8 @@ class PostServiceTest {
         );
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(postResponseCache.get(eq(postId), any())).thenAnswer(invocation ->
+                invocation.<Supplier<PostDto.Response>>getArgument(1).get());
         when(profileService.toProfile(post.getMemberId())).thenReturn(new ProfileDto.Response(1L, "user", "region", 26.5, LocalDateTime.now()));
 
         // when
@@ -152,8 +174,10 @@ class PostServiceTest {
         );
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
-        when(setOperations.members("1")).thenReturn(new HashSet<>());
+        when(postResponseCache.get(eq(postId), any())).thenAnswer(invocation ->
+                invocation.<Supplier<PostDto.Response>>getArgument(1).get());
+        when(viewDeduplicator.isFirstView(postId, memberId)).thenReturn(true);
+        when(postViewCounter.increase(postId, 0)).thenReturn(1);
         when(profileService.toProfile(post.getMemberId())).thenReturn(new ProfileDto.Response(1L, "user", "region", 26.5, LocalDateTime.now()));
 
         // when
@@ -180,8 +204,10 @@ class PostServiceTest {
         );
 
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
-        when(setOperations.members("1")).thenReturn(new HashSet<>(Arrays.asList("1")));
+        when(postResponseCache.get(eq(postId), any())).thenAnswer(invocation ->
+                invocation.<Supplier<PostDto.Response>>getArgument(1).get());
+        when(viewDeduplicator.isFirstView(postId, memberId)).thenReturn(false);
+        when(postViewCounter.getViews(postId, 0)).thenReturn(0);
         when(profileService.toProfile(post.getMemberId())).thenReturn(new ProfileDto.Response(1L, "user", "region", 26.5, LocalDateTime.now()));
 
         // when
@@ -196,34 +222,48 @@ class PostServiceTest {
     @DisplayName("게시글 전체 조회 성공")
     public void testGetAllPost() {
         // given
-        Post post = new Post(
-                1L,
-                "keyboard~!",
-                "this keyboard is good",
-                100000, TransactionType.SALE,
-                Category.DIGITAL_DEVICES
-        );
-
-        Post post2 = new Post(1L,
-                "keyboard~!",
-                "this keyboard is good",
-                100000, TransactionType.SALE,
-                Category.DIGITAL_DEVICES
-        );
+        PostSummary post = new PostSummary(1L, 1L, "keyboard~!", 100000, 0, TransactionType.SALE,
+                Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, LocalDateTime.now(), LocalDateTime.now());
+        PostSummary post2 = new PostSummary(2L, 1L, "keyboard~!", 100000, 0, TransactionType.SALE,
+                Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, LocalDateTime.now(), LocalDateTime.now());
 
-        List<Post> posts = List.of(post, post2);
+        List<PostSummary> posts = List.of(post, post2);
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> page = new PageImpl<>(posts, pageable, posts.size());
-        when(postRepository.findAll(pageable)).thenReturn(page);
-        when(profileService.toProfile(post.getMemberId())).thenReturn(new ProfileDto.Response(1L, "user", "region", 26.5, LocalDateTime.now()));
+        Page<PostSummary> page = new PageImpl<>(posts, pageable, posts.size());
+        when(postRepository.findAllSummaries(pageable)).thenReturn(page);
+        when(profileService.getUsernames(anyCollection())).thenReturn(Map.of(1L, "user"));
 
         // when
-        Page<PostDto.Response> response = postService.getAllPost(pageable);
+        Page<PostDto.Summary> response = postService.getAllPost(pageable);
 
         // then
         assertEquals(page.getTotalElements(), response.getTotalElements());
         assertEquals(page.getNumber(), response.getNumber());
-        verify(postRepository, times(1)).findAll(pageable);
+        verify(postRepository, times(1)).findAllSummaries(pageable);
+    }
+
+    @Test
+    @DisplayName("동네 게시글 조회 시 끌어올림 순서를 유지한다")
+    void getNeighborhoodPostsTest() {
+        // given
+        Long memberId = 1L;
+        PostSummary post = new PostSummary(1L, 1L, "keyboard~!", 100000, 0, TransactionType.SALE,
+                Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, LocalDateTime.now(), LocalDateTime.now());
+        PostSummary post2 = new PostSummary(2L, 1L, "keyboard~!", 100000, 0, TransactionType.SALE,
+                Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, LocalDateTime.now(), LocalDateTime.now());
+
+        Pageable pageable = PageRequest.of(0, 10);
+        when(profileService.getOne(memberId)).thenReturn(new Profile(memberId, "user", "region"));
+        when(postRegionFeed.getPostIds("region", pageable)).thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        when(postRepository.findSummariesByIdIn(List.of(2L, 1L))).thenReturn(List.of(post, post2));
+        when(profileService.getUsernames(anyCollection())).thenReturn(Map.of(1L, "user"));
+
+        // when
+        Page<PostDto.Summary> response = postService.getNeighborhoodPosts(memberId, pageable);
+
+        // then
+        assertEquals(2, response.getTotalElements());
+        assertEquals(List.of(2L, 1L), response.map(PostDto.Summary::id).getContent());
     }
 
     @Test
@@ -231,28 +271,22 @@ class PostServiceTest {
     public void getPostByCategoryTest() throws Exception {
         // given
         Category category = Category.DIGITAL_DEVICES;
-        Post post = new Post(
-                1L,
-                "keyboard~!",
-                "this keyboard is good",
-                100000,
-                TransactionType.SALE,
-                Category.DIGITAL_DEVICES
-        );
+        PostSummary post = new PostSummary(1L, 1L, "keyboard~!", 100000, 0, TransactionType.SALE,
+                Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, LocalDateTime.now(), LocalDateTime.now());
 
-        List<Post> posts = List.of(post);
+        List<PostSummary> posts = List.of(post);
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> page = new PageImpl<>(posts);
-        when(postRepository.findByCategory(category, pageable)).thenReturn(page);
-        when(profileService.toProfile(post.getMemberId())).thenReturn(new ProfileDto.Response(1L, "user", "region", 26.5, LocalDateTime.now()));
+        Page<PostSummary> page = new PageImpl<>(posts);
+        when(postRepository.findSummariesByCategory(category, pageable)).thenReturn(page);
+        when(profileService.getUsernames(anyCollection())).thenReturn(Map.of(1L, "user"));
 
         // when
-        Page<PostDto.Response> response = postService.getPostByCategory(category, pageable);
+        Page<PostDto.Summary> response = postService.getPostByCategory(category, pageable);
 
         // then
         assertEquals(page.getTotalElements(), response.getTotalElements());
         assertEquals(page.getNumber(), response.getNumber());
-        verify(postRepository, times(1)).findByCategory(category, pageable);
+        verify(postRepository, times(1)).findSummariesByCategory(category, pageable);
     }
 
     @Test
@@ -260,28 +294,22 @@ class PostServiceTest {
     void getPostByMemberIdTest() {
         // given
         Long memberId = 1L;
-        Post post = new Post(
-                1L,
-                "keyboard~!",
-                "this keyboard is good",
-                100000,
-                TransactionType.SALE,
-                Category.DIGITAL_DEVICES
-        );
+        PostSummary post = new PostSummary(1L, 1L, "keyboard~!", 100000, 0, TransactionType.SALE,
+                Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, LocalDateTime.now(), LocalDateTime.now());
 
-        List<Post> posts = List.of(post);
+        List<PostSummary> posts = List.of(post);
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> page = new PageImpl<>(posts);
-        when(postRepository.findByMemberId(memberId, pageable)).thenReturn(page);
-        when(profileService.toProfile(post.getMemberId())).thenReturn(new ProfileDto.Response(1L, "user", "region", 26.5, LocalDateTime.now()));
+        Page<PostSummary> page = new PageImpl<>(posts);
+        when(postRepository.findSummariesByMemberId(memberId, pageable)).thenReturn(page);
+        when(profileService.getUsernames(anyCollection())).thenReturn(Map.of(1L, "user"));
 
         // when
-        Page<PostDto.Response> response = postService.getPostByMemberId(memberId, pageable);
+        Page<PostDto.Summary> response = postService.getPostByMemberId(memberId, pageable);
 
         // then
         assertEquals(page.getTotalElements(), response.getTotalElements());
         assertEquals(page.getNumber(), response.getNumber());
-        verify(postRepository, times(1)).findByMemberId(memberId, pageable);
+        verify(postRepository, times(1)).findSummariesByMemberId(memberId, pageable);
     }
 
     @Test
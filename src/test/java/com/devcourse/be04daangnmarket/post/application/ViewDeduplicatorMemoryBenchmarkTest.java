@@ -0,0 +1,103 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ViewDeduplicatorMemoryBenchmarkTest {
+    private static final int VIEW_COUNT = 1_000_000;
+    private static final int USER_COUNT = 10_000;
+    private static final int POST_COUNT = 100_000;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("조회수 중복 제거 전략별 조회 100만 건당 메모리 사용량")
+    void memoryPerMillionViews() {
+        long setBytes = measure(new SetViewDeduplicator(redisTemplate, Duration.ofDays(1)), "post:viewed:set:*");
+        long hyperLogLogBytes = measure(new HyperLogLogViewDeduplicator(redisTemplate, Duration.ofDays(1)), "post:viewers:hll:*");
+        long bloomBytes = measure(
+                new BloomFilterViewDeduplicator(redisTemplate, Duration.ofDays(1), 1000, 0.01),
+                "post:viewed:bloom:*"
+        );
+
+        System.out.printf("set         : %,d bytes / %,d views%n", setBytes, VIEW_COUNT);
+        System.out.printf("hyperloglog : %,d bytes / %,d views%n", hyperLogLogBytes, VIEW_COUNT);
+        System.out.printf("bloom       : %,d bytes / %,d views%n", bloomBytes, VIEW_COUNT);
+
+        assertTrue(bloomBytes < setBytes);
+    }
+
+    private long measure(ViewDeduplicator viewDeduplicator, String pattern) {
+        deleteKeys(pattern);
+
+        SplittableRandom random = new SplittableRandom(42);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < VIEW_COUNT; i++) {
+            viewDeduplicator.isFirstView((long) random.nextInt(POST_COUNT), (long) random.nextInt(USER_COUNT));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long bytes = sumMemoryUsage(pattern);
+
+        System.out.printf("%s : %,d ns/op%n", viewDeduplicator.getClass().getSimpleName(), elapsed / VIEW_COUNT);
+        deleteKeys(pattern);
+
+        return bytes;
+    }
+
+    private long sumMemoryUsage(String pattern) {
+        return redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long total = 0;
+
+            try (Cursor<byte[]> keys = connection.keyCommands().scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+                while (keys.hasNext()) {
+                    Object usage = connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), keys.next());
+                    total += usage == null ? 0 : (Long) usage;
+                }
+            }
+
+            return total;
+        });
+    }
+
+    private void deleteKeys(String pattern) {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            try (Cursor<byte[]> keys = connection.keyCommands().scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+                while (keys.hasNext()) {
+                    connection.keyCommands().del(keys.next());
+                }
+            }
+
+            return null;
+        });
+    }
+}
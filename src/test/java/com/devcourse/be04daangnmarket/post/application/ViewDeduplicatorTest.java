@@ -0,0 +1,86 @@
+package com.devcourse.be04daangnmarket.post.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ViewDeduplicatorTest {
+    private static final Duration WINDOW = Duration.ofHours(24);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final Set<String> members = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    Object[] args = Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length);
+
+                    return add(keys.get(0), args);
+                });
+    }
+
+    @Test
+    @DisplayName("Set 전략은 처음 조회만 첫 조회로 판정한다")
+    void setFirstViewTest() {
+        ViewDeduplicator viewDeduplicator = new SetViewDeduplicator(redisTemplate, WINDOW);
+
+        assertFirstViewOnlyOnce(viewDeduplicator);
+    }
+
+    @Test
+    @DisplayName("Bloom 필터 전략은 처음 조회만 첫 조회로 판정한다")
+    void bloomFirstViewTest() {
+        ViewDeduplicator viewDeduplicator = new BloomFilterViewDeduplicator(redisTemplate, WINDOW, 1000, 0.01);
+
+        assertFirstViewOnlyOnce(viewDeduplicator);
+    }
+
+    @Test
+    @DisplayName("HyperLogLog 전략은 처음 조회만 첫 조회로 판정한다")
+    void hyperLogLogFirstViewTest() {
+        ViewDeduplicator viewDeduplicator = new HyperLogLogViewDeduplicator(redisTemplate, WINDOW);
+
+        assertFirstViewOnlyOnce(viewDeduplicator);
+    }
+
+    private void assertFirstViewOnlyOnce(ViewDeduplicator viewDeduplicator) {
+        assertTrue(viewDeduplicator.isFirstView(1L, 10L));
+        assertFalse(viewDeduplicator.isFirstView(1L, 10L));
+        assertTrue(viewDeduplicator.isFirstView(2L, 10L));
+        assertTrue(viewDeduplicator.isFirstView(1L, 20L));
+    }
+
+    private long add(String key, Object[] args) {
+        long added = 0;
+
+        for (int i = 1; i < args.length; i++) {
+            if (members.add(key + ":" + args[i])) {
+                added = 1;
+            }
+        }
+
+        return added;
+    }
+}
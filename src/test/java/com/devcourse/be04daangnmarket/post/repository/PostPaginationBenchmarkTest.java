@@ -0,0 +1,94 @@
+package com.devcourse.be04daangnmarket.post.repository;
+
+import com.devcourse.be04daangnmarket.common.id.Snowflake;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class PostPaginationBenchmarkTest {
+    private static final int PAGE_SIZE = 5;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int POST_COUNT = (DEEP_PAGE + 1) * PAGE_SIZE;
+    private static final int ITERATIONS = 50;
+    private static final String INSERT_SQL = """
+            INSERT INTO posts (id, member_id, title, description, price, views, transaction_type, category,
+                               post_status, status, pull_up_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 0, 'SALE', 'DIGITAL_DEVICES', 'FOR_SALE', 'ALIVE', ?, ?, ?)
+            """;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long deepCursorId;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Snowflake snowflake = Snowflake.forNode(0);
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            batchArgs.add(new Object[]{snowflake.nextId(), (long) (i % 100), "title" + i, "description" + i, i, now, now, now});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        deepCursorId = jdbcTemplate.queryForObject(
+                "SELECT id FROM posts ORDER BY id DESC LIMIT 1 OFFSET ?", Long.class, DEEP_PAGE * PAGE_SIZE - 1);
+    }
+
+    @Test
+    @DisplayName("키셋 페이징은 페이지 깊이와 무관하게 일정한 지연 시간을 보인다")
+    void offsetVersusKeysetTest() {
+        Pageable keysetPageable = PageRequest.of(0, PAGE_SIZE);
+
+        long offsetFirst = measure(() -> postRepository.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by("id").descending())));
+        long offsetDeep = measure(() -> postRepository.findAll(PageRequest.of(DEEP_PAGE, PAGE_SIZE, Sort.by("id").descending())));
+        List<String> deepCursor = List.of(String.valueOf(deepCursorId));
+
+        long keysetFirst = measure(() -> postRepository.findPostsWithCursorWithFilters(null, null, null, null, null, keysetPageable));
+        long keysetDeep = measure(() -> postRepository.findPostsWithCursorWithFilters(deepCursor, null, null, null, null, keysetPageable));
+
+        System.out.printf("offset page 1      : %,d ns%n", offsetFirst);
+        System.out.printf("offset page %,d : %,d ns%n", DEEP_PAGE, offsetDeep);
+        System.out.printf("keyset page 1      : %,d ns%n", keysetFirst);
+        System.out.printf("keyset page %,d : %,d ns%n", DEEP_PAGE, keysetDeep);
+
+        assertTrue(keysetDeep < offsetDeep);
+    }
+
+    private long measure(Supplier<?> query) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -39,7 +39,7 @@ class PostRepositoryTest {
 
 		// when
 		Pageable pageable = PageRequest.of(0, 10);
-		Page<Post> selectedPost = postRepository.findByTitleContaining("key", pageable);
+		Page<PostSummary> selectedPost = postRepository.findSummariesByTitleContaining("key", pageable);
 
 		// then
 		assertEquals(2, selectedPost.getNumberOfElements());
@@ -2,6 +2,7 @@ package com.devcourse.be04daangnmarket.post.repository;
 
 import com.devcourse.be04daangnmarket.post.domain.Post;
 import com.devcourse.be04daangnmarket.post.domain.constant.Category;
+import com.devcourse.be04daangnmarket.post.domain.constant.PostStatus;
 import com.devcourse.be04daangnmarket.post.domain.constant.TransactionType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,9 +15,13 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -43,8 +48,7 @@ class PostWithCursorRepositoryImplTest {
 
         // when
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "price"));
-        Slice<Post> selectedPost = postRepository.findPostsWithCursorWithFilters(
-                null,
+        Slice<PostSummary> selectedPost = postRepository.findPostsWithCursorWithFilters(
                 null,
                 Category.DIGITAL_DEVICES,
                 null,
@@ -75,8 +79,7 @@ class PostWithCursorRepositoryImplTest {
 
         // when
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "price"));
-        Slice<Post> selectedPost = postRepository.findPostsWithCursorWithFilters(
-                null,
+        Slice<PostSummary> selectedPost = postRepository.findPostsWithCursorWithFilters(
                 null,
                 null,
                 null,
@@ -107,8 +110,7 @@ class PostWithCursorRepositoryImplTest {
 
         // when
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "price"));
-        Slice<Post> selectedPost = postRepository.findPostsWithCursorWithFilters(
-                null,
+        Slice<PostSummary> selectedPost = postRepository.findPostsWithCursorWithFilters(
                 null,
                 Category.DIGITAL_DEVICES,
                 2L,
@@ -139,8 +141,7 @@ class PostWithCursorRepositoryImplTest {
 
         // when
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "price"));
-        Slice<Post> selectedPost = postRepository.findPostsWithCursorWithFilters(
-                null,
+        Slice<PostSummary> selectedPost = postRepository.findPostsWithCursorWithFilters(
                 null,
                 null,
                 null,
@@ -171,8 +172,7 @@ class PostWithCursorRepositoryImplTest {
 
         // when
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "price"));
-        Slice<Post> selectedPost = postRepository.findPostsWithCursorWithFilters(
-                null,
+        Slice<PostSummary> selectedPost = postRepository.findPostsWithCursorWithFilters(
                 null,
                 null,
                 null,
@@ -182,12 +182,12 @@ class PostWithCursorRepositoryImplTest {
         );
 
         // then
-        assertEquals(3L, selectedPost.getContent().get(0).getId());
-        assertEquals(1L, selectedPost.getContent().get(1).getId());
+        assertEquals(posts.get(2).getId(), selectedPost.getContent().get(0).id());
+        assertEquals(posts.get(0).getId(), selectedPost.getContent().get(1).id());
     }
 
     @Test
-    @DisplayName("첫 조회 이후 게시글 아이디 값을 사용한 커서 기반 페이징 조회 성공")
+    @DisplayName("첫 조회 이후 정렬 값과 게시글 아이디 값을 사용한 커서 기반 페이징 조회 성공")
     void getPostsWithFilterWithCursor() {
         // given
         List<Post> posts = List.of(
@@ -204,9 +204,8 @@ class PostWithCursorRepositoryImplTest {
 
         // when
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "price"));
-        Slice<Post> selectedPost = postRepository.findPostsWithCursorWithFilters(
-                2L,
-                null,
+        Slice<PostSummary> selectedPost = postRepository.findPostsWithCursorWithFilters(
+                List.of("100000", posts.get(1).getId().toString()),
                 null,
                 null,
                 null,
@@ -215,7 +214,7 @@ class PostWithCursorRepositoryImplTest {
         );
 
         // then
-        assertEquals(1L, selectedPost.getContent().get(0).getId());
+        assertEquals(posts.get(0).getId(), selectedPost.getContent().get(0).id());
         assertEquals(1, selectedPost.getContent().size());
     }
 
@@ -240,7 +239,7 @@ class PostWithCursorRepositoryImplTest {
         Slice<Post> pageResult = postRepository.findPostsWithCursor(null, null, pageable);
 
         // then
-        assertEquals(4L, pageResult.getContent().get(0).getId());
+        assertEquals(posts.get(3).getId(), pageResult.getContent().get(0).getId());
         assertEquals(2, pageResult.getContent().size());
     }
 
@@ -261,12 +260,12 @@ class PostWithCursorRepositoryImplTest {
         postRepository.saveAll(posts);
 
         // when
-        Post selectedPost = postRepository.findById(3L).get();
+        Post selectedPost = postRepository.findById(posts.get(2).getId()).get();
         PageRequest pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Slice<Post> pageResult = postRepository.findPostsWithCursor(3L, selectedPost.getCreatedAt(), pageable);
+        Slice<Post> pageResult = postRepository.findPostsWithCursor(selectedPost.getId(), selectedPost.getCreatedAt(), pageable);
 
         // then
-        assertEquals(2L, pageResult.getContent().get(0).getId());
+        assertEquals(posts.get(1).getId(), pageResult.getContent().get(0).getId());
         assertEquals(2, pageResult.getContent().size());
     }
 
@@ -291,7 +290,67 @@ class PostWithCursorRepositoryImplTest {
         Slice<Post> pageResult = postRepository.findPostsWithCursor(null, null, pageable);
 
         // then
-        assertEquals(1L, pageResult.getContent().get(0).getId());
+        assertEquals(posts.get(0).getId(), pageResult.getContent().get(0).getId());
         assertEquals(2, pageResult.getContent().size());
     }
+
+    @Test
+    @DisplayName("마지막 게시글 ID 기준 키셋 페이징 조회 성공")
+    void findPostsWithKeysetTest() {
+        // given
+        List<Post> posts = List.of(
+                new Post(1L, "keyboard~!", "this keyboard is good", 100000, TransactionType.SALE,
+                        Category.DIGITAL_DEVICES),
+                new Post(1L, "mouse~!", "this keyboard is good", 200000, TransactionType.SALE,
+                        Category.DIGITAL_DEVICES),
+                new Post(1L, "keyKey~!", "this keyboard is good", 200000, TransactionType.SALE,
+                        Category.HOUSEHOLD_KITCHEN),
+                new Post(1L, "house~!", "this keyboard is good", 300000, TransactionType.SALE,
+                        Category.DIGITAL_DEVICES)
+        );
+        postRepository.saveAll(posts);
+
+        // when
+        PageRequest pageable = PageRequest.of(0, 2);
+        Slice<PostSummary> firstPage = postRepository.findPostsWithCursorWithFilters(null, null, null, null, null, pageable);
+        Long lastId = firstPage.getContent().get(firstPage.getNumberOfElements() - 1).id();
+        Slice<PostSummary> secondPage = postRepository.findPostsWithCursorWithFilters(
+                List.of(lastId.toString()), null, null, null, null, pageable);
+
+        // then
+        assertEquals(posts.get(3).getId(), firstPage.getContent().get(0).id());
+        assertTrue(firstPage.hasNext());
+        assertEquals(posts.get(1).getId(), secondPage.getContent().get(0).id());
+        assertEquals(2, secondPage.getNumberOfElements());
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    @DisplayName("끌어올린 시간이 없는 게시글도 커서 기반 페이징으로 조회된다")
+    void findPostsWithNullPullUpAtTest() {
+        // given
+        LocalDateTime pullUpAt = LocalDateTime.of(2023, 9, 1, 12, 0);
+        List<Post> posts = List.of(
+                new Post(1L, "keyboard~!", "this keyboard is good", 100000, 0, TransactionType.SALE,
+                        Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, pullUpAt),
+                new Post(1L, "mouse~!", "this keyboard is good", 100000, 0, TransactionType.SALE,
+                        Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, null),
+                new Post(1L, "house~!", "this keyboard is good", 100000, 0, TransactionType.SALE,
+                        Category.DIGITAL_DEVICES, PostStatus.FOR_SALE, null)
+        );
+        postRepository.saveAll(posts);
+
+        // when
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "pullUpAt"));
+        Slice<PostSummary> secondPage = postRepository.findPostsWithCursorWithFilters(
+                List.of(pullUpAt.toString(), posts.get(0).getId().toString()), null, null, null, null, pageable);
+        Slice<PostSummary> thirdPage = postRepository.findPostsWithCursorWithFilters(
+                Arrays.asList(null, posts.get(2).getId().toString()), null, null, null, null, pageable);
+
+        // then
+        assertEquals(posts.get(2).getId(), secondPage.getContent().get(0).id());
+        assertTrue(secondPage.hasNext());
+        assertEquals(posts.get(1).getId(), thirdPage.getContent().get(0).id());
+        assertFalse(thirdPage.hasNext());
+    }
 }